@@ -0,0 +1,101 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날씨 피드 파싱 방식별 지연 시간과 할당량을 비교합니다.
+ * - databindArray: 기존 getForEntity 경로와 같이 WeatherDto[]로 바인딩한 뒤 선형 탐색
+ * - streamingFind: 토큰 스트림으로 읽다가 해당 날짜에서 멈춤
+ * - streamingCalendar: 토큰 스트림으로 한 번 훑어 WeatherCalendar 생성
+ * 네트워크 비용은 모든 경로에 같으므로, 응답 본문 바이트를 읽는 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherFeedParsingBenchmark {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ParameterNamesModule());
+
+    @Param({"06-30", "12-31"})
+    public String targetDate;
+
+    private byte[] feed;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < WeatherCalendar.DAYS; i++, date = date.plusDays(1)) {
+            if (i > 0) json.append(',');
+            json.append("{\"date\":\"").append(date.format(DATE_FORMATTER))
+                    .append("\",\"weather\":\"").append(WEATHERS[i % WEATHERS.length]).append("\"}");
+        }
+        feed = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String databindArray() throws IOException {
+        WeatherDto[] weatherArray = objectMapper.readValue(new ByteArrayInputStream(feed), WeatherDto[].class);
+        for (WeatherDto weatherDto : weatherArray) {
+            if (targetDate.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String streamingFind() throws IOException {
+        return findWeather(new ByteArrayInputStream(feed), targetDate);
+    }
+
+    @Benchmark
+    public WeatherCalendar streamingCalendar() throws IOException {
+        return WeatherFeedParser.parseCalendar(new ByteArrayInputStream(feed));
+    }
+
+    /*
+     * 토큰 스트림으로 읽다가 해당 날짜("MM-dd")를 찾으면 나머지는 읽지 않습니다.
+     */
+    private String findWeather(ByteArrayInputStream in, String date) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String entryDate = null;
+                String weather = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    parser.nextToken();
+                    if ("date".equals(fieldName)) {
+                        entryDate = parser.getText();
+                    } else if ("weather".equals(fieldName)) {
+                        weather = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (date.equals(entryDate)) {
+                    return weather;
+                }
+            }
+        }
+        return null;
+    }
+}
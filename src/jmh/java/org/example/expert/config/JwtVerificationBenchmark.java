@@ -0,0 +1,62 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter의 토큰 처리 비용을 비교합니다.
+ * - jjwtExtractClaims: 기존 경로와 같이 매 요청마다 서명 검증과 claims 파싱
+ * - fastVerify: JwtFastVerifier로 서명 검증과 정해진 claim만 읽기
+ * - resolvePrincipal: JwtUtil의 캐시 미스 경로 (빠른 경로 + jjwt 대체)
+ * - cachedResolve: JwtAuthenticationCache에서 이미 검증된 사용자 정보를 꺼냄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationCache cache;
+    private JwtFastVerifier fastVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        byte[] keyBytes = "benchmark-secret-key-0123456789abcdef".getBytes();
+        secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(keyBytes));
+        jwtUtil.init();
+        fastVerifier = new JwtFastVerifier(keyBytes);
+
+        cache = new JwtAuthenticationCache(jwtUtil, new SimpleMeterRegistry(), 100_000);
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.USER));
+        cache.resolve(token);
+    }
+
+    @Benchmark
+    public Object jjwtExtractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal fastVerify() {
+        return fastVerifier.verify(token, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public JwtPrincipal resolvePrincipal() {
+        return jwtUtil.resolvePrincipal(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedResolve() {
+        return cache.resolve(token);
+    }
+}
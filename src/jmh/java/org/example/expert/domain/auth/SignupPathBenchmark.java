@@ -0,0 +1,115 @@
+package org.example.expert.domain.auth;
+
+import org.example.expert.domain.common.util.BloomFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가입자 100만 명이 있는 H2에서 회원가입의 DB 경로를 비교합니다. (BCrypt 비용은 두 경로가 같으므로 제외)
+ * - existsThenInsert*: 기존 경로와 같이 existsByEmail 조회 후 INSERT
+ * - bloomThenInsert*: Bloom filter로 신규 이메일은 바로 INSERT, 양성일 때만 조회
+ * - insertOnlyDuplicate: Bloom filter 없이 INSERT 후 unique 제약 위반으로 중복을 판단
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignupPathBenchmark {
+
+    private static final int SEEDED_USERS = 1_000_000;
+
+    private Connection connection;
+    private PreparedStatement existsStatement;
+    private PreparedStatement insertStatement;
+    private BloomFilter emailFilter;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, ClassNotFoundException {
+        // jmh jar에서는 드라이버 서비스 파일이 하나로 합쳐지므로 직접 등록합니다.
+        Class.forName("org.h2.Driver");
+        connection = DriverManager.getConnection("jdbc:h2:mem:signup;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (" +
+                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, email VARCHAR(255) UNIQUE, password VARCHAR(255), " +
+                    "user_role VARCHAR(255), created_at TIMESTAMP, modified_at TIMESTAMP)");
+            statement.execute("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                    "SELECT 'user' || X || '@example.com', 'hash', 'USER', NOW(), NOW() " +
+                    "FROM SYSTEM_RANGE(1, " + SEEDED_USERS + ")");
+        }
+
+        emailFilter = new BloomFilter(SEEDED_USERS * 2L, 0.01);
+        for (int i = 1; i <= SEEDED_USERS; i++) {
+            emailFilter.put("user" + i + "@example.com");
+        }
+
+        existsStatement = connection.prepareStatement("SELECT 1 FROM users WHERE email = ? LIMIT 1");
+        insertStatement = connection.prepareStatement(
+                "INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, 'hash', 'USER', NOW(), NOW())");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean existsThenInsertNewEmail() throws SQLException {
+        String email = nextNewEmail();
+        if (exists(email)) return false;
+        return insert(email);
+    }
+
+    @Benchmark
+    public boolean bloomThenInsertNewEmail() throws SQLException {
+        String email = nextNewEmail();
+        if (emailFilter.mightContain(email) && exists(email)) return false;
+        boolean inserted = insert(email);
+        emailFilter.put(email);
+        return inserted;
+    }
+
+    @Benchmark
+    public boolean existsThenInsertDuplicate() throws SQLException {
+        String email = nextDuplicateEmail();
+        if (exists(email)) return false;
+        return insert(email);
+    }
+
+    @Benchmark
+    public boolean bloomThenInsertDuplicate() throws SQLException {
+        String email = nextDuplicateEmail();
+        if (emailFilter.mightContain(email) && exists(email)) return false;
+        return insert(email);
+    }
+
+    @Benchmark
+    public boolean insertOnlyDuplicate() throws SQLException {
+        return insert(nextDuplicateEmail());
+    }
+
+    private String nextNewEmail() {
+        return "new" + (sequence++) + "@example.com";
+    }
+
+    private String nextDuplicateEmail() {
+        return "user" + (1 + (sequence++ % SEEDED_USERS)) + "@example.com";
+    }
+
+    private boolean exists(String email) throws SQLException {
+        existsStatement.setString(1, email);
+        try (ResultSet resultSet = existsStatement.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private boolean insert(String email) throws SQLException {
+        insertStatement.setString(1, email);
+        try {
+            return insertStatement.executeUpdate() == 1;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 저장 요청 하나(일정 {@value #TODOS}건과 담당자 {@value #TODOS}건)를 처리하는 시간을 비교합니다.
+ * TodoService.saveTodos와 같이 {@value #FLUSH_SIZE}건마다 flush 후 영속성 컨텍스트를 비웁니다.
+ * - batchSize=1: INSERT를 한 건씩 실행
+ * - batchSize=100: 애플리케이션 설정(hibernate.jdbc.batch_size)과 같이 INSERT를 묶어서 실행
+ * 메모리 DB라 왕복 비용이 거의 없으므로, 네트워크를 거치는 MySQL에서는 차이가 더 커집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkSaveBenchmark {
+
+    private static final int TODOS = 10_000;
+    private static final int FLUSH_SIZE = 100;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClassNotFoundException {
+        // jmh jar에서는 드라이버 서비스 파일이 하나로 합쳐지므로 직접 등록합니다.
+        Class.forName("org.h2.Driver");
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:bulk" + batchSize + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(batchSize))
+                .setProperty("hibernate.order_inserts", "true")
+                // 애플리케이션과 같은 컬럼 이름(user_role 등)을 쓰도록 Spring Boot의 명명 전략을 지정합니다.
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Todo.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(Manager.class)
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+                "INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+                        "VALUES (1, 'user@example.com', 'hash', 'USER', NOW(), NOW())").executeUpdate());
+        user = User.fromAuthUser(new AuthUser(1L, "user@example.com", UserRole.USER));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long saveTodos() {
+        return sessionFactory.fromTransaction(session -> {
+            long lastId = 0;
+            for (int i = 1; i <= TODOS; i++) {
+                Todo todo = new Todo("title" + i, "contents" + i, "Sunny", user);
+                session.persist(todo);
+                lastId = todo.getId();
+
+                if (i % FLUSH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.flush();
+            session.clear();
+            return lastId;
+        });
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoImportCheckpoint;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 가져오기의 저장 단계(묶음 {@value #BATCH}건씩 {@value #TODOS}건)를 비교합니다.
+ * - statefulPersist: 영속성 컨텍스트에 쌓았다가 flush/clear (일괄 생성 API와 같은 방식)
+ * - statelessInsert: TodoImportService와 같이 StatelessSession으로 테이블별로 INSERT
+ * batchSize는 hibernate.jdbc.batch_size입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImportWriteBenchmark {
+
+    private static final int TODOS = 10_000;
+    private static final int BATCH = 1_000;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClassNotFoundException {
+        // jmh jar에서는 드라이버 서비스 파일이 하나로 합쳐지므로 직접 등록합니다.
+        Class.forName("org.h2.Driver");
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:import" + batchSize + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(batchSize))
+                .setProperty("hibernate.order_inserts", "true")
+                // 애플리케이션과 같은 컬럼 이름(user_role 등)을 쓰도록 Spring Boot의 명명 전략을 지정합니다.
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Todo.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(Manager.class)
+                .addAnnotatedClass(TodoImportCheckpoint.class)
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+                "INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+                        "VALUES (1, 'user@example.com', 'hash', 'USER', NOW(), NOW())").executeUpdate());
+        user = User.reference(1L);
+    }
+
+    // 테이블이 계속 커지면 측정값이 흔들리므로 매번 비웁니다.
+    @Setup(Level.Invocation)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("DELETE FROM managers").executeUpdate();
+            session.createNativeMutationQuery("DELETE FROM todos").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long statefulPersist() {
+        return sessionFactory.fromTransaction(session -> {
+            long lastId = 0;
+            for (int i = 1; i <= TODOS; i++) {
+                Todo todo = newTodo(i);
+                session.persist(todo);
+                lastId = todo.getId();
+                if (i % BATCH == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            return lastId;
+        });
+    }
+
+    @Benchmark
+    public long statelessInsert() {
+        long lastId = 0;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            for (int from = 1; from <= TODOS; from += BATCH) {
+                List<Todo> todos = new ArrayList<>(BATCH);
+                List<Manager> managers = new ArrayList<>(BATCH);
+                for (int i = from; i < from + BATCH; i++) {
+                    Todo todo = newTodo(i);
+                    todos.add(todo);
+                    managers.addAll(todo.getManagers());
+                }
+                session.beginTransaction();
+                todos.forEach(session::insert);
+                managers.forEach(session::insert);
+                session.getTransaction().commit();
+                lastId = todos.get(todos.size() - 1).getId();
+            }
+        }
+        return lastId;
+    }
+
+    private Todo newTodo(int i) {
+        LocalDateTime now = LocalDateTime.now();
+        return Todo.imported("title" + i, "contents" + i, "Sunny", user, now, now);
+    }
+}
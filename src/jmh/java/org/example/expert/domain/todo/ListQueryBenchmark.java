@@ -0,0 +1,142 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 목록 조회 한 번에 드는 시간과 할당량(-prof gc의 gc.alloc.rate.norm)을 비교합니다.
+ * 서비스의 @Transactional(readOnly = true)와 같이 세션을 읽기 전용, 수동 flush로 둡니다.
+ * - *Entities: 기존 경로와 같이 JOIN FETCH로 엔티티를 조회한 뒤 응답 DTO로 복사
+ * - *Projection: JPQL 생성자 표현식으로 응답 DTO를 바로 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListQueryBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int TODOS = 10_000;
+    private static final int COMMENTS_PER_TODO = 50;
+    private static final int PAGE_SIZE = 10;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClassNotFoundException {
+        // jmh jar에서는 드라이버 서비스 파일이 하나로 합쳐지므로 직접 등록합니다.
+        Class.forName("org.h2.Driver");
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:list;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                // 애플리케이션과 같은 컬럼 이름(user_role 등)을 쓰도록 Spring Boot의 명명 전략을 지정합니다.
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Todo.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(Manager.class)
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                    "SELECT 'user' || X || '@example.com', 'hash', 'USER', NOW(), NOW() " +
+                    "FROM SYSTEM_RANGE(1, " + USERS + ")").executeUpdate();
+            session.createNativeMutationQuery("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+                    "SELECT X, 'title' || X, 'contents' || X, 'Sunny', MOD(X, " + USERS + ") + 1, NOW(), DATEADD('SECOND', X, NOW()) " +
+                    "FROM SYSTEM_RANGE(1, " + TODOS + ")").executeUpdate();
+            session.createNativeMutationQuery("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) " +
+                    "SELECT X, 'comment' || X, MOD(X, " + USERS + ") + 1, 1, NOW(), NOW() " +
+                    "FROM SYSTEM_RANGE(1, " + COMMENTS_PER_TODO + ")").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoPageEntities() {
+        return readOnly(session -> {
+            List<Todo> todos = session.createQuery(
+                            "SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC", Todo.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            List<TodoResponse> responses = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                responses.add(new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoPageProjection() {
+        return readOnly(session -> session.createQuery(
+                        "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+                                "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+                                "FROM Todo t JOIN t.user u ORDER BY t.modifiedAt DESC", TodoResponse.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsEntities() {
+        return readOnly(session -> {
+            List<Comment> comments = session.createQuery(
+                            "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                    .setParameter("todoId", 1L)
+                    .getResultList();
+            List<CommentResponse> responses = new ArrayList<>(comments.size());
+            for (Comment comment : comments) {
+                User user = comment.getUser();
+                responses.add(new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(user.getId(), user.getEmail())
+                ));
+            }
+            return responses;
+        });
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsProjection() {
+        return readOnly(session -> session.createQuery(
+                        "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+                                "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId", CommentResponse.class)
+                .setParameter("todoId", 1L)
+                .getResultList());
+    }
+
+    private <T> T readOnly(Function<Session, T> work) {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            return work.apply(session);
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JDK HttpClient로 날씨 피드를 비동기 조회하는 클래스입니다.
+ * weather.http.client=async일 때만 등록되므로, rest 모드에서는 HttpClient와 그 스레드를 만들지 않습니다.
+ * 하나의 HttpClient를 재사용하므로 HTTP/2 연결이 유지되고, 요청마다 응답 기한(request-timeout)을 둡니다.
+ * hedge-delay를 설정하면 첫 요청이 그 시간 안에 끝나지 않을 때 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용합니다.
+ * 한 요청이 성공하면 아직 진행 중인 나머지 요청은 취소합니다.
+ */
+@Component
+@Profile("!weather-file & !weather-stub")
+@ConditionalOnProperty(name = "weather.http.client", havingValue = "async")
+public class AsyncWeatherHttpClient {
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final long hedgeDelayMillis;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter timeoutCounter;
+    private final Counter hedgeCounter;
+
+    public AsyncWeatherHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${weather.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${weather.http.request-timeout:3s}") Duration requestTimeout,
+            @Value("${weather.http.hedge-delay:0ms}") Duration hedgeDelay
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.hedgeDelayMillis = hedgeDelay.toMillis();
+
+        this.meterRegistry = meterRegistry;
+        this.timeoutCounter = meterRegistry.counter("weather.http.timeouts", "client", "async");
+        this.hedgeCounter = meterRegistry.counter("weather.http.hedged", "client", "async");
+    }
+
+    /**
+     * 날씨 피드를 비동기로 받아 WeatherCalendar로 변환합니다.
+     * 실패하면 {@link ServerException}으로 완료됩니다.
+     */
+    public CompletableFuture<WeatherCalendar> fetchCalendar(URI uri) {
+        if (hedgeDelayMillis <= 0) {
+            return send(uri, new ArrayList<>());
+        }
+
+        CompletableFuture<WeatherCalendar> result = new CompletableFuture<>();
+        AtomicInteger runningAttempts = new AtomicInteger(1);
+        List<CompletableFuture<?>> exchanges = new CopyOnWriteArrayList<>();
+        // 결과가 정해지면 진행 중인 요청을 취소합니다. 이미 끝난 요청의 cancel은 아무 효과가 없습니다.
+        result.whenComplete((calendar, error) -> exchanges.forEach(exchange -> exchange.cancel(true)));
+        send(uri, exchanges).whenComplete((calendar, error) -> completeAttempt(result, runningAttempts, calendar, error));
+
+        CompletableFuture.delayedExecutor(hedgeDelayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.isDone()) return;
+            runningAttempts.incrementAndGet();
+            hedgeCounter.increment();
+            send(uri, exchanges).whenComplete((calendar, error) -> completeAttempt(result, runningAttempts, calendar, error));
+            // 헤지 요청을 보내는 사이에 첫 요청이 끝났다면 취소 대상에 늦게 추가되었으므로 여기서 취소합니다.
+            if (result.isDone()) {
+                exchanges.forEach(exchange -> exchange.cancel(true));
+            }
+        });
+        return result;
+    }
+
+    /*
+     * 먼저 성공한 응답으로 완료하고, 모든 시도가 실패했을 때만 실패로 완료합니다.
+     */
+    private void completeAttempt(
+            CompletableFuture<WeatherCalendar> result,
+            AtomicInteger runningAttempts,
+            WeatherCalendar calendar,
+            Throwable error
+    ) {
+        if (error == null) {
+            result.complete(calendar);
+            return;
+        }
+        if (runningAttempts.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /*
+     * 요청을 보내고, 취소할 수 있도록 HttpClient의 요청 future를 exchanges에 추가합니다.
+     * 변환 단계의 future를 취소해도 요청은 취소되지 않으므로 HttpClient가 반환한 future를 취소해야 합니다.
+     */
+    private CompletableFuture<WeatherCalendar> send(URI uri, List<CompletableFuture<?>> exchanges) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        exchanges.add(exchange);
+        return exchange
+                .handle((response, error) -> {
+                    String outcome = "success";
+                    try {
+                        if (error != null) {
+                            outcome = isCancelled(error) ? "cancelled" : "error";
+                            throw toServerException(error);
+                        }
+                        if (response.statusCode() != 200) {
+                            outcome = "error";
+                            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
+                        }
+                        return WeatherFeedParser.parseCalendar(new ByteArrayInputStream(response.body()));
+                    } catch (IOException e) {
+                        outcome = "error";
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        sample.stop(meterRegistry.timer("weather.http.requests", "client", "async", "outcome", outcome));
+                    }
+                })
+                .exceptionally(error -> {
+                    throw toServerException(error);
+                });
+    }
+
+    /*
+     * HttpClient는 취소된 요청을 CompletionException으로 감싼 CancellationException으로 완료합니다.
+     */
+    private boolean isCancelled(Throwable error) {
+        return error instanceof CancellationException
+                || (error instanceof CompletionException && error.getCause() instanceof CancellationException);
+    }
+
+    private ServerException toServerException(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ServerException serverException) {
+            return serverException;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            timeoutCounter.increment();
+            return new ServerException("날씨 API 응답 시간이 초과되었습니다.");
+        }
+        return new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+    }
+}
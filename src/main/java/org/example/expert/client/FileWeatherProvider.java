@@ -0,0 +1,45 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * 로컬 스냅샷 파일만으로 날씨를 제공하는 클래스입니다.
+ * 외부 네트워크 없이 동작하므로, 격리된 환경에서 실제 날씨 데이터로 테스트할 때 사용합니다.
+ */
+@Slf4j
+@Component
+@Profile("weather-file")
+public class FileWeatherProvider implements WeatherProvider {
+
+    private final WeatherCalendar weatherCalendar;
+
+    public FileWeatherProvider(@Value("${weather.snapshot.path:./data/weather-calendar.bin}") Path snapshotPath) {
+        this.weatherCalendar = load(snapshotPath);
+    }
+
+    @Override
+    public String getTodayWeather() {
+        String weather = weatherCalendar.get(LocalDate.now());
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    private WeatherCalendar load(Path snapshotPath) {
+        try {
+            return WeatherCalendar.readFrom(snapshotPath);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 불러오지 못했습니다: {}", e.getMessage());
+            return WeatherCalendar.empty();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 API 없이 날짜에 따라 항상 같은 날씨를 반환하는 부하 테스트용 클래스입니다.
+ * latency와 jitter를 설정하면 실제 외부 API의 응답 지연을 흉내낼 수 있습니다.
+ */
+@Component
+@Profile("weather-stub")
+public class StubWeatherProvider implements WeatherProvider {
+
+    private final List<String> weathers;
+    private final long latencyMillis;
+    private final long jitterMillis;
+
+    public StubWeatherProvider(
+            @Value("${weather.stub.weathers:Sunny,Cloudy,Rainy,Snowy}") List<String> weathers,
+            @Value("${weather.stub.latency:0ms}") Duration latency,
+            @Value("${weather.stub.jitter:0ms}") Duration jitter
+    ) {
+        this.weathers = List.copyOf(weathers);
+        this.latencyMillis = latency.toMillis();
+        this.jitterMillis = jitter.toMillis();
+    }
+
+    @Override
+    public String getTodayWeather() {
+        simulateLatency();
+        int dayOfYear = LocalDate.now().getDayOfYear();
+        return weathers.get(dayOfYear % weathers.size());
+    }
+
+    private void simulateLatency() {
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (delay <= 0) return;
+
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 1년치 날씨를 day-of-year(0~365) 인덱스로 담아두는 불변 테이블입니다.
+ * 윤년 기준 366칸을 사용하므로 2월 29일도 별도 칸을 가지며, 조회는 배열 접근 한 번으로 끝납니다.
+ * 로컬 파일로 스냅샷을 저장하고, 기동 시 메모리 맵으로 읽어 외부 API 없이도 바로 사용할 수 있습니다.
+ */
+public final class WeatherCalendar {
+
+    public static final int DAYS = 366;
+
+    private static final int SNAPSHOT_MAGIC = 0x57434131; // "WCA1"
+    private static final int LEAP_YEAR = 2000;
+
+    private final String[] weatherByDay;
+
+    private WeatherCalendar(String[] weatherByDay) {
+        this.weatherByDay = weatherByDay;
+    }
+
+    public static WeatherCalendar empty() {
+        return new WeatherCalendar(new String[DAYS]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 해당 날짜의 날씨를 반환합니다. 데이터가 없으면 null을 반환합니다.
+     */
+    public String get(LocalDate date) {
+        return weatherByDay[slotOf(date.getMonthValue(), date.getDayOfMonth())];
+    }
+
+    public boolean isEmpty() {
+        for (String weather : weatherByDay) {
+            if (weather != null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 스냅샷 파일을 저장합니다.
+     * 임시 파일에 먼저 쓴 뒤 교체하므로, 저장 도중 실패해도 기존 스냅샷이 깨지지 않습니다.
+     * 형식: magic(int) + 366개의 [길이(short, 없으면 -1) + UTF-8 바이트]
+     */
+    public void writeTo(Path path) throws IOException {
+        byte[][] encoded = new byte[DAYS][];
+        int size = Integer.BYTES;
+        for (int i = 0; i < DAYS; i++) {
+            encoded[i] = weatherByDay[i] == null ? null : weatherByDay[i].getBytes(StandardCharsets.UTF_8);
+            size += Short.BYTES + (encoded[i] == null ? 0 : encoded[i].length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(SNAPSHOT_MAGIC);
+        for (byte[] bytes : encoded) {
+            if (bytes == null) {
+                buffer.putShort((short) -1);
+                continue;
+            }
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, "weather-calendar", ".tmp");
+        Files.write(tempFile, buffer.array());
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 맵으로 읽어 WeatherCalendar를 만듭니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     */
+    public static WeatherCalendar readFrom(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("날씨 스냅샷 형식이 올바르지 않습니다: " + path);
+            }
+
+            Builder builder = builder();
+            for (int i = 0; i < DAYS; i++) {
+                short length = buffer.getShort();
+                if (length < 0) continue;
+
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                builder.putSlot(i, new String(bytes, StandardCharsets.UTF_8));
+            }
+            return builder.build();
+        } catch (RuntimeException e) {
+            throw new IOException("날씨 스냅샷을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /*
+     * 월/일을 윤년 기준 day-of-year 인덱스로 변환합니다.
+     */
+    static int slotOf(int month, int day) {
+        return LocalDate.of(LEAP_YEAR, month, day).getDayOfYear() - 1;
+    }
+
+    public static class Builder {
+
+        private final String[] weatherByDay = new String[DAYS];
+        // 날씨 종류는 몇 가지뿐이므로 같은 문자열 인스턴스를 공유합니다.
+        private final Map<String, String> distinctWeathers = new HashMap<>();
+
+        /**
+         * "MM-dd" 형식의 날짜에 날씨를 등록합니다. 형식이 맞지 않는 날짜는 무시합니다.
+         */
+        public Builder put(String date, String weather) {
+            if (date == null || weather == null || date.length() != 5 || date.charAt(2) != '-') {
+                return this;
+            }
+            try {
+                int month = Integer.parseInt(date, 0, 2, 10);
+                int day = Integer.parseInt(date, 3, 5, 10);
+                return putSlot(slotOf(month, day), weather);
+            } catch (RuntimeException e) {
+                return this;
+            }
+        }
+
+        private Builder putSlot(int slot, String weather) {
+            weatherByDay[slot] = distinctWeathers.computeIfAbsent(weather, w -> w);
+            return this;
+        }
+
+        public WeatherCalendar build() {
+            return new WeatherCalendar(weatherByDay.clone());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 외부 날씨 API의 연속 실패를 감지하여 일정 시간 호출을 막는 서킷 브레이커입니다.
+ * <ul>
+ *     <li>CLOSED: 정상 상태로, 연속 실패가 failureThreshold에 도달하면 OPEN이 됩니다.</li>
+ *     <li>OPEN: openDuration 동안 호출을 막습니다. 시간이 지나면 HALF_OPEN이 됩니다.</li>
+ *     <li>HALF_OPEN: 한 번의 시험 호출을 허용하고, 성공하면 CLOSED, 실패하면 다시 OPEN이 됩니다.</li>
+ * </ul>
+ */
+public class WeatherCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public WeatherCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    WeatherCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 지금 외부 API를 호출해도 되는지 확인합니다.
+     * OPEN 상태에서 대기 시간이 지났다면 HALF_OPEN으로 바꾸고 시험 호출 한 번을 허용합니다.
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.CLOSED) return true;
+
+        if (state == State.OPEN && clock.millis() - openedAt >= openDurationMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
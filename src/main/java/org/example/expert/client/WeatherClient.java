@@ -1,48 +1,313 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 외부 날씨 API를 조회하는 클래스입니다.
+ * 날씨 피드는 1년치 데이터를 한 번에 내려주므로, day-of-year로 인덱싱된 {@link WeatherCalendar}에 통째로 저장해두고
+ * 자정 전에 스케줄러가 미리 갱신합니다. 일정 저장 시에는 캐시만 조회하여 네트워크를 타지 않습니다.
+ * 갱신된 캘린더는 로컬 스냅샷 파일로 저장되어, 재시작 직후나 외부 API 장애 시에도 그대로 사용됩니다.
+ * <p>
+ * 외부 API 호출은 항상 하나만 진행됩니다. 동시에 갱신이 필요해진 요청들은 진행 중인 호출 결과를 함께 기다리고,
+ * 캐시가 오래되었을 뿐 오늘 날씨가 있다면 기존 값을 바로 반환하면서 백그라운드에서 한 번만 갱신합니다.
+ * 연속으로 실패하면 {@link WeatherCircuitBreaker}가 잠시 호출을 막습니다.
+ * <p>
+ * weather.http.client 값으로 HTTP 클라이언트를 고릅니다. rest(기본)는 타임아웃이 설정된 RestTemplate을,
+ * async는 HTTP/2 연결을 재사용하는 {@link AsyncWeatherHttpClient}를 사용하며, 이 클라이언트는 async일 때만 만들어집니다.
+ */
+@Slf4j
 @Component
-public class WeatherClient {
+@Profile("!weather-file & !weather-stub")
+public class WeatherClient implements WeatherProvider {
 
     private final RestTemplate restTemplate;
+    private final AsyncWeatherHttpClient asyncHttpClient;
+    private final boolean asyncHttpMode;
+    private final Path snapshotPath;
+    private final long cacheTtlMillis;
+    private final WeatherCircuitBreaker circuitBreaker;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 갱신 시 새 캘린더로 교체하므로, 읽는 쪽은 잠금 없이 조회합니다.
+    private volatile WeatherCalendar weatherCache;
+    private volatile long cacheRefreshedAt;
+    private volatile String lastKnownWeather;
+
+    // 진행 중인 갱신 작업입니다. 동시에 들어온 요청들은 이 작업을 공유합니다.
+    private final AtomicReference<CompletableFuture<WeatherCalendar>> inFlightRefresh = new AtomicReference<>();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter staleHitCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter circuitRejectedCounter;
+    private final Counter restTimeoutCounter;
+    private final MeterRegistry meterRegistry;
+
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            ObjectProvider<AsyncWeatherHttpClient> asyncHttpClient,
+            MeterRegistry meterRegistry,
+            @Value("${weather.http.client:rest}") String httpClientMode,
+            @Value("${weather.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${weather.http.request-timeout:3s}") Duration requestTimeout,
+            @Value("${weather.snapshot.path:./data/weather-calendar.bin}") Path snapshotPath,
+            @Value("${weather.cache.ttl:24h}") Duration cacheTtl,
+            @Value("${weather.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:30s}") Duration openDuration
+    ) {
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(requestTimeout)
+                .build();
+        this.asyncHttpMode = "async".equalsIgnoreCase(httpClientMode);
+        this.asyncHttpClient = asyncHttpMode ? asyncHttpClient.getObject() : null;
+        this.snapshotPath = snapshotPath;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+        this.circuitBreaker = new WeatherCircuitBreaker(failureThreshold, openDuration);
+        this.weatherCache = loadSnapshot();
+
+        this.cacheHitCounter = meterRegistry.counter("weather.cache.requests", "result", "hit");
+        this.cacheMissCounter = meterRegistry.counter("weather.cache.requests", "result", "miss");
+        this.staleHitCounter = meterRegistry.counter("weather.cache.requests", "result", "stale");
+        this.refreshSuccessCounter = meterRegistry.counter("weather.cache.refresh", "result", "success");
+        this.refreshFailureCounter = meterRegistry.counter("weather.cache.refresh", "result", "failure");
+        this.circuitRejectedCounter = meterRegistry.counter("weather.cache.refresh", "result", "circuit_open");
+        this.restTimeoutCounter = meterRegistry.counter("weather.http.timeouts", "client", "rest");
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal());
     }
 
+    /**
+     * 오늘 날짜의 날씨를 반환합니다.
+     * 캐시가 오래되었다면 기존 값을 반환하면서 백그라운드 갱신을 시작합니다.
+     * 캐시에 없으면 진행 중인 갱신을 기다리고, 그마저 실패하면 마지막으로 조회된 날씨를 반환합니다.
+     *
+     * @return 오늘의 날씨
+     * @throws ServerException 날씨를 가져오지 못했고 이전에 조회된 날씨도 없는 경우
+     */
+    @Override
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        LocalDate today = LocalDate.now();
+
+        WeatherCalendar observedCache = weatherCache;
+        String weather = observedCache.get(today);
+        if (weather != null) {
+            if (isCacheStale()) {
+                staleHitCounter.increment();
+                refreshAsync(observedCache);
+            } else {
+                cacheHitCounter.increment();
+            }
+            return remember(weather);
+        }
+        cacheMissCounter.increment();
+
+        try {
+            weather = awaitRefresh(observedCache).get(today);
+        } catch (ServerException | RestClientException e) {
+            if (lastKnownWeather == null) {
+                throw e;
+            }
+            log.warn("날씨 데이터 갱신에 실패하여 마지막으로 조회된 날씨를 사용합니다: {}", e.getMessage());
+            return lastKnownWeather;
+        }
+
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return remember(weather);
+    }
+
+    /**
+     * 날씨 캐시를 미리 채워두는 스케줄 메서드입니다.
+     * 애플리케이션 기동 직후와 매일 자정 전에 실행되며, 실패하면 기존 캐시를 그대로 유지합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 50 23 * * *}")
+    public void scheduledRefresh() {
+        try {
+            awaitRefresh(weatherCache);
+        } catch (ServerException | RestClientException e) {
+            log.warn("날씨 캐시를 갱신하지 못했습니다. 기존 캐시를 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /*
+     * 진행 중인 갱신이 있으면 그 작업을, 없으면 새 갱신 작업을 시작하여 반환합니다.
+     * 호출한 쪽이 확인한 캐시(observedCache)가 그 사이 이미 교체되었다면 외부 API를 다시 호출하지 않습니다.
+     */
+    private CompletableFuture<WeatherCalendar> refreshAsync(WeatherCalendar observedCache) {
+        while (true) {
+            CompletableFuture<WeatherCalendar> current = inFlightRefresh.get();
+            if (current != null) {
+                return current;
+            }
+
+            CompletableFuture<WeatherCalendar> created = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, created)) {
+                WeatherCalendar currentCache = weatherCache;
+                if (currentCache != observedCache) {
+                    inFlightRefresh.compareAndSet(created, null);
+                    created.complete(currentCache);
+                    return created;
+                }
+                startRefresh().whenComplete((calendar, error) -> {
+                    inFlightRefresh.compareAndSet(created, null);
+                    if (error != null) {
+                        created.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                        return;
+                    }
+                    created.complete(calendar);
+                });
+                return created;
+            }
+        }
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    /*
+     * 갱신 작업이 끝날 때까지 기다립니다. 실패 원인이 되는 예외를 그대로 다시 던집니다.
+     */
+    private WeatherCalendar awaitRefresh(WeatherCalendar observedCache) {
+        try {
+            return refreshAsync(observedCache).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
         }
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    }
+
+    /*
+     * 1년치 날씨 피드를 받아와 캘린더를 교체하고, 스냅샷 파일로 저장합니다.
+     * 서킷이 열려 있으면 외부 API를 호출하지 않습니다.
+     */
+    private CompletableFuture<WeatherCalendar> startRefresh() {
+        if (!circuitBreaker.allowRequest()) {
+            circuitRejectedCounter.increment();
+            return CompletableFuture.failedFuture(new ServerException("날씨 API 장애로 호출을 일시적으로 중단했습니다."));
         }
 
-        String today = getCurrentDate();
+        CompletableFuture<WeatherCalendar> fetch = asyncHttpMode
+                ? asyncHttpClient.fetchCalendar(buildWeatherApiUri())
+                : CompletableFuture.supplyAsync(this::fetchWeatherCalendar, refreshExecutor);
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+        return fetch.whenCompleteAsync((newCache, error) -> {
+            if (error != null) {
+                circuitBreaker.recordFailure();
+                refreshFailureCounter.increment();
+                return;
             }
+            weatherCache = newCache;
+            cacheRefreshedAt = System.currentTimeMillis();
+            circuitBreaker.recordSuccess();
+            refreshSuccessCounter.increment();
+            saveSnapshot(newCache);
+        }, refreshExecutor);
+    }
+
+    private boolean isCacheStale() {
+        return System.currentTimeMillis() - cacheRefreshedAt > cacheTtlMillis;
+    }
+
+    /*
+     * 스냅샷 파일이 있으면 읽어오고, 없거나 읽을 수 없으면 빈 캘린더를 반환합니다.
+     * 스냅샷의 수정 시각을 마지막 갱신 시각으로 사용합니다.
+     */
+    private WeatherCalendar loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return WeatherCalendar.empty();
+        }
+        try {
+            WeatherCalendar calendar = WeatherCalendar.readFrom(snapshotPath);
+            cacheRefreshedAt = Files.getLastModifiedTime(snapshotPath).toMillis();
+            log.info("날씨 스냅샷을 불러왔습니다: {}", snapshotPath);
+            return calendar;
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 불러오지 못했습니다: {}", e.getMessage());
+            return WeatherCalendar.empty();
         }
+    }
+
+    private void saveSnapshot(WeatherCalendar calendar) {
+        try {
+            calendar.writeTo(snapshotPath);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * RestTemplate으로 응답 본문을 토큰 스트림으로 읽어 바로 캘린더를 만듭니다.
+     */
+    private WeatherCalendar fetchWeatherCalendar() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            WeatherCalendar calendar = restTemplate.execute(buildWeatherApiUri(), HttpMethod.GET, null, response -> {
+                if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                    throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+                }
+                return WeatherFeedParser.parseCalendar(response.getBody());
+            });
+            outcome = "success";
+            return calendar;
+        } catch (ResourceAccessException e) {
+            if (e.getCause() instanceof SocketTimeoutException) {
+                restTimeoutCounter.increment();
+            }
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("weather.http.requests", "client", "rest", "outcome", outcome));
+        }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private String remember(String weather) {
+        lastKnownWeather = weather;
+        return weather;
     }
 
     private URI buildWeatherApiUri() {
@@ -53,9 +318,4 @@ public class WeatherClient {
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
-}
\ No newline at end of file
+}
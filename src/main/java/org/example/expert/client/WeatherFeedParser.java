@@ -0,0 +1,78 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 날씨 피드([{"date":"MM-dd","weather":"..."}, ...])를 Jackson 토큰 스트림으로 읽는 클래스입니다.
+ * 날짜마다 DTO를 만들지 않고, 한 번 훑으면서 바로 {@link WeatherCalendar}를 채웁니다.
+ */
+public final class WeatherFeedParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private WeatherFeedParser() {
+    }
+
+    /**
+     * 피드 전체를 읽어 WeatherCalendar를 만듭니다.
+     *
+     * date나 weather가 없는 항목은 건너뜁니다.
+     *
+     * @throws ServerException 피드가 배열이 아니거나, 배열이 객체 외의 값을 담고 있거나 끝나지 않았거나, 비어있는 경우
+     */
+    public static WeatherCalendar parseCalendar(InputStream feed) throws IOException {
+        WeatherCalendar.Builder builder = WeatherCalendar.builder();
+        int entries = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(feed)) {
+            expectArray(parser);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String[] entry = readEntry(parser);
+                builder.put(entry[0], entry[1]);
+                entries++;
+            }
+            // 객체가 아닌 값이나 잘린 본문에서 멈췄다면, 일부만 읽은 캘린더로 교체하지 않도록 실패시킵니다.
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+            }
+        }
+
+        if (entries == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return builder.build();
+    }
+
+    private static void expectArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /*
+     * 현재 객체에서 date와 weather 값만 읽고, 나머지 필드는 건너뜁니다.
+     */
+    private static String[] readEntry(JsonParser parser) throws IOException {
+        String date = null;
+        String weather = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("date".equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                date = parser.getText();
+            } else if ("weather".equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                weather = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new String[]{date, weather};
+    }
+}
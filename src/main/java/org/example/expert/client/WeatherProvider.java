@@ -0,0 +1,21 @@
+package org.example.expert.client;
+
+/**
+ * 일정에 기록할 오늘의 날씨를 제공하는 인터페이스입니다.
+ * 구현체는 프로필로 선택합니다.
+ * <ul>
+ *     <li>기본: {@link WeatherClient} - 외부 날씨 API (HTTP)</li>
+ *     <li>weather-file: {@link FileWeatherProvider} - 로컬 스냅샷 파일</li>
+ *     <li>weather-stub: {@link StubWeatherProvider} - 결정적인 인메모리 데이터 (부하 테스트용)</li>
+ * </ul>
+ */
+public interface WeatherProvider {
+
+    /**
+     * 오늘 날짜의 날씨를 반환합니다.
+     *
+     * @return 오늘의 날씨
+     * @throws org.example.expert.domain.common.exception.ServerException 날씨를 가져오지 못한 경우
+     */
+    String getTodayWeather();
+}
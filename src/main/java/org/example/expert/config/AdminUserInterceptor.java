@@ -3,10 +3,8 @@ package org.example.expert.config;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
-import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserRoleCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
@@ -22,7 +20,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AdminUserInterceptor implements HandlerInterceptor {
 
-    private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     /**
@@ -46,10 +44,10 @@ public class AdminUserInterceptor implements HandlerInterceptor {
         // JwtFilter 에서 set 한 userId 값을 가져옵니다.
         Long userId = (Long) request.getAttribute("userId");
 
-        // DB의 user를 검색하여 userRole이 admin인지 확인합니다.
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        // 권한 캐시(없으면 DB)에서 userRole이 admin인지 확인합니다.
+        UserRole userRole = userRoleCache.getUserRole(userId);
 
-        if (!UserRole.ADMIN.equals(user.getUserRole())) {
+        if (!UserRole.ADMIN.equals(userRole)) {
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
             logger.warn("[FORBIDDEN] url: {}, requestTime: {}", request.getRequestURI(), LocalDateTime.now());
             return false;
@@ -0,0 +1,98 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증이 끝난 JWT의 사용자 정보를 보관하는 캐시입니다.
+ * 같은 토큰이 다시 들어오면 서명 검증과 claims 파싱을 건너뛰고 저장된 {@link JwtPrincipal}을 반환합니다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 항목은 토큰의 exp가 지나면 사용되지 않습니다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+    private final Map<String, JwtPrincipal> principals = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtAuthenticationCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-size:100000}") int maxSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("jwt.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.cache.requests", "result", "miss");
+        meterRegistry.gauge("jwt.cache.size", principals, Map::size);
+    }
+
+    /**
+     * 토큰에 해당하는 사용자 정보를 반환합니다.
+     * 캐시에 없거나 만료되었다면 토큰을 검증하고 결과를 캐시에 저장합니다.
+     *
+     * @param token Bearer 접두사를 뗀 JWT
+     * @return 검증된 사용자 정보
+     */
+    public JwtPrincipal resolve(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        JwtPrincipal cached = principals.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                hitCounter.increment();
+                return cached;
+            }
+            principals.remove(key, cached);
+        }
+        missCounter.increment();
+
+        // 만료되었거나 위조된 토큰이면 여기서 예외가 발생하여 캐시에 저장되지 않습니다.
+        JwtPrincipal principal = jwtUtil.resolvePrincipal(token);
+        if (principals.size() >= maxSize) {
+            evictExpired();
+        }
+        if (principals.size() < maxSize) {
+            principals.put(key, principal);
+        }
+        return principal;
+    }
+
+    /**
+     * 만료된 항목을 주기적으로 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.cache.cleanup-interval:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        principals.values().removeIf(principal -> principal.isExpired(now));
+    }
+
+    /*
+     * 토큰 원문을 보관하지 않도록 SHA-256 다이제스트를 키로 사용합니다.
+     */
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return new String(hash, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * JwtUtil.createToken으로 발급한 HS256 토큰만 빠르게 검증하는 클래스입니다.
+ * 스레드마다 Mac을 재사용하고, 서명은 바이트 배열로 상수 시간 비교하며, payload에서는 정해진 claim만 읽습니다.
+ * 헤더가 다르거나 모르는 claim이 있거나 서명이 맞지 않거나 만료된 경우 등 예상과 다른 토큰이면 null을 반환하고,
+ * 호출한 쪽은 jjwt로 다시 검증하여 기존과 같은 예외를 발생시킵니다.
+ */
+final class JwtFastVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    // jjwt가 HS256으로 서명할 때 만드는 헤더 {"alg":"HS256"}
+    private static final String EXPECTED_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ThreadLocal<Mac> macs;
+
+    JwtFastVerifier(byte[] keyBytes) {
+        SecretKeySpec keySpec = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 토큰을 검증하고 사용자 정보를 반환합니다.
+     *
+     * @return 검증된 사용자 정보, 빠른 경로에서 판단할 수 없는 토큰이면 null
+     */
+    JwtPrincipal verify(String token, long nowMillis) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd != EXPECTED_HEADER.length()
+                || payloadEnd < 0
+                || token.indexOf('.', payloadEnd + 1) >= 0
+                || !token.startsWith(EXPECTED_HEADER)) {
+            return null;
+        }
+
+        try {
+            byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+            Mac mac = macs.get();
+            mac.update(tokenBytes, 0, payloadEnd);
+            byte[] expected = mac.doFinal();
+
+            byte[] actual = Base64.getUrlDecoder().decode(token.substring(payloadEnd + 1));
+            if (actual.length != SIGNATURE_LENGTH || !MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(headerEnd + 1, payloadEnd));
+            JwtPrincipal principal = readPayload(payload);
+            if (principal == null || principal.isExpired(nowMillis)) {
+                return null;
+            }
+            return principal;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    /*
+     * sub, jti, email, userRole, iat, exp만 허용합니다. 그 밖의 claim이 있으면 jjwt에 맡깁니다.
+     */
+    private JwtPrincipal readPayload(byte[] payload) throws IOException {
+        String subject = null;
+        String email = null;
+        String userRole = null;
+        String tokenId = null;
+        long expiration = -1;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (fieldName) {
+                    case "sub" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        subject = parser.getText();
+                    }
+                    case "email" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        email = parser.getText();
+                    }
+                    case "userRole" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        userRole = parser.getText();
+                    }
+                    case "jti" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        tokenId = parser.getText();
+                    }
+                    case "exp" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) return null;
+                        expiration = parser.getLongValue();
+                    }
+                    case "iat" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) return null;
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+        }
+
+        if (subject == null || userRole == null || expiration < 0) {
+            return null;
+        }
+        try {
+            return new JwtPrincipal(Long.parseLong(subject), email, userRole, tokenId, expiration * 1000);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -19,6 +19,8 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -48,18 +50,24 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
+            // JWT 유효성 검사와 사용자 정보 추출 (이미 검증된 토큰은 캐시에서 가져옵니다)
+            JwtPrincipal principal = jwtAuthenticationCache.resolve(jwt);
+            if (principal == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // 로그아웃 등으로 폐기된 토큰은 401을 반환합니다.
+            if (tokenRevocationService.isRevoked(principal.getTokenId())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return;
+            }
+
+            UserRole userRole = UserRole.valueOf(principal.getUserRole());
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", principal.getUserId());
+            httpRequest.setAttribute("email", principal.getEmail());
+            httpRequest.setAttribute("userRole", principal.getUserRole());
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
@@ -0,0 +1,29 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+/**
+ * 검증이 끝난 JWT에서 꺼낸 사용자 정보입니다.
+ * JwtFilter는 매 요청마다 claims를 다시 해석하지 않고 이 값을 request attribute로 전달합니다.
+ */
+@Getter
+public class JwtPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String userRole;
+    private final String tokenId; // jti, 이전에 발급된 토큰은 null
+    private final long expiresAt; // epoch millis
+
+    public JwtPrincipal(Long userId, String email, String userRole, String tokenId, long expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAt;
+    }
+}
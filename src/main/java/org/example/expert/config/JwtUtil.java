@@ -15,6 +15,7 @@ import org.springframework.util.StringUtils;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -26,12 +27,14 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtFastVerifier fastVerifier;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        fastVerifier = new JwtFastVerifier(bytes);
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -40,6 +43,7 @@ public class JwtUtil {
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId))
+                        .setId(UUID.randomUUID().toString()) // 폐기(로그아웃)할 때 사용하는 토큰 ID
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
@@ -62,4 +66,25 @@ public class JwtUtil {
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    /**
+     * 토큰을 검증하고 JwtFilter에서 사용하는 사용자 정보만 꺼냅니다.
+     * 직접 발급한 형식의 토큰은 JwtFastVerifier로 검증하고, 그 밖의 토큰은 jjwt로 검증합니다.
+     * 검증에 실패하면 extractClaims와 같은 예외가 발생합니다.
+     */
+    public JwtPrincipal resolvePrincipal(String token) {
+        JwtPrincipal principal = fastVerifier.verify(token, System.currentTimeMillis());
+        if (principal != null) {
+            return principal;
+        }
+
+        Claims claims = extractClaims(token);
+        return new JwtPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("userRole", String.class),
+                claims.getId(),
+                claims.getExpiration().getTime()
+        );
+    }
 }
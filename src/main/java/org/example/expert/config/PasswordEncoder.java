@@ -1,17 +1,111 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt로 비밀번호를 해시하고 검증하는 클래스입니다.
+ * 계산은 {@link PasswordHashExecutor}의 전용 풀에서 실행되며, 실행기가 없으면 호출한 스레드에서 바로 계산합니다.
+ * 해시 비용(cost)은 시작 시 현재 하드웨어에서 target-latency에 가장 가까운 값으로 정합니다.
+ */
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    private static final int CALIBRATION_COST = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final PasswordHashExecutor hashExecutor;
+    private final int cost;
+
+    public PasswordEncoder() {
+        this.hashExecutor = null;
+        this.cost = BCrypt.MIN_COST;
+    }
+
+    @Autowired
+    public PasswordEncoder(
+            PasswordHashExecutor hashExecutor,
+            @Value("${password.bcrypt.target-latency:100ms}") Duration targetLatency,
+            @Value("${password.bcrypt.min-cost:4}") int minCost,
+            @Value("${password.bcrypt.max-cost:14}") int maxCost
+    ) {
+        this.hashExecutor = hashExecutor;
+        this.cost = calibrate(targetLatency, minCost, maxCost);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return run("encode", () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return run("matches", () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용과 다르면 true를 반환합니다.
+     * 형식을 알 수 없는 해시는 다시 해시하지 않습니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int encodedCost = costOf(encodedPassword);
+        return encodedCost > 0 && encodedCost != cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /*
+     * BCrypt는 cost가 1 오를 때마다 계산 시간이 두 배가 되므로,
+     * CALIBRATION_COST에서 잰 시간으로 목표 시간에 가장 가까운 cost를 구합니다.
+     */
+    static int costFor(long calibrationNanos, long targetNanos, int minCost, int maxCost) {
+        double doublings = Math.log((double) targetNanos / Math.max(1, calibrationNanos)) / Math.log(2);
+        int cost = CALIBRATION_COST + (int) Math.round(doublings);
+        return Math.max(minCost, Math.min(maxCost, cost));
+    }
+
+    /*
+     * "$2a$10$..." 형식에서 cost를 읽습니다. 읽을 수 없으면 -1을 반환합니다.
+     */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        char[] sample = "calibration-password".toCharArray();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.withDefaults().hash(CALIBRATION_COST, sample);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        int calibrated = costFor(best, targetLatency.toNanos(), minCost, maxCost);
+        log.info("BCrypt cost {} 선택 (cost {} 측정값 {}ms, 목표 {}ms)",
+                calibrated, CALIBRATION_COST, best / 1_000_000, targetLatency.toMillis());
+        return calibrated;
+    }
+
+    private <T> T run(String operation, Supplier<T> task) {
+        if (hashExecutor == null) {
+            return task.get();
+        }
+        return hashExecutor.execute(operation, task);
     }
 }
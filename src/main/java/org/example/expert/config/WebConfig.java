@@ -1,7 +1,7 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserRoleCache;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -13,7 +13,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
 
     // ArgumentResolver 등록
     @Override
@@ -23,7 +23,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new AdminUserInterceptor(userRepository))
+        registry.addInterceptor(new AdminUserInterceptor(userRoleCache))
                 .addPathPatterns("/admin/**");
     }
 }
\ No newline at end of file
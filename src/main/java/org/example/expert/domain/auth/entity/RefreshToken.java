@@ -0,0 +1,44 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰입니다. 토큰 원문은 저장하지 않고 SHA-256 해시만 저장합니다.
+ * 같은 로그인에서 회전(rotation)으로 이어진 토큰들은 같은 familyId를 가집니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "familyId"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expiresAt")
+})
+public class RefreshToken {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(unique = true, nullable = false, length = 43)
+    private String tokenHash;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false, length = 36)
+    private String familyId;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    private boolean used;
+
+    public RefreshToken(String tokenHash, Long userId, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+}
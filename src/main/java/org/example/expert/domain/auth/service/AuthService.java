@@ -1,19 +1,30 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JwtPrincipal;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.PasswordRehashWriter;
+import org.example.expert.domain.user.service.RegisteredEmailFilter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -22,11 +33,22 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final PasswordRehashWriter passwordRehashWriter;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 회원가입을 처리합니다.
+     * BCrypt 계산은 해시 풀에서 기다릴 수 있으므로 트랜잭션을 시작하기 전에 하고,
+     * 유저와 리프레시 토큰 저장은 하나의 트랜잭션으로 실행하여 토큰 발급에 실패하면 가입도 취소합니다.
+     */
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // Bloom filter에 없는 이메일은 가입된 적이 없으므로 중복 확인 쿼리를 생략합니다.
+        if (registeredEmailFilter.mightContain(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -39,14 +61,30 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
-
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        SignupResponse signupResponse;
+        try {
+            signupResponse = transactionTemplate.execute(status -> {
+                User savedUser = userRepository.saveAndFlush(newUser);
+                String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+                String refreshToken = refreshTokenService.issue(savedUser.getId());
+                return new SignupResponse(bearerToken, refreshToken);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 이메일로 가입한 경우만 중복으로 응답하고, 다른 제약 위반은 그대로 던집니다.
+            if (isEmailUniqueViolation(e)) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        registeredEmailFilter.put(newUser.getEmail());
 
-        return new SignupResponse(bearerToken);
+        return signupResponse;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 로그인을 처리합니다.
+     * 유저 조회와 리프레시 토큰 저장만 각각 트랜잭션으로 실행하고, 비밀번호 검증은 커넥션 없이 합니다.
+     */
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -56,8 +94,63 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 해시 비용이 현재 설정과 다르면 새 비용으로 다시 해시하여 백그라운드에서 저장합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            passwordRehashWriter.rehash(user.getId(), signinRequest.getPassword(), user.getPassword());
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
-        return new SigninResponse(bearerToken);
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다.
+     * 비밀번호 검증 없이 토큰 회전만 하므로 BCrypt 계산이 없습니다.
+     * 재사용 감지 시 폐기한 family가 롤백되지 않도록 AuthException에서는 롤백하지 않습니다.
+     */
+    @Transactional(noRollbackFor = AuthException.class)
+    public SigninResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        RefreshTokenService.IssuedRefreshToken issued = refreshTokenService.rotate(refreshTokenRequest.getRefreshToken());
+
+        User user = userRepository.findById(issued.userId()).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+
+        return new SigninResponse(bearerToken, issued.token());
+    }
+
+    /**
+     * 액세스 토큰을 만료 시각까지 폐기하고, 리프레시 토큰이 있으면 그 family도 폐기합니다.
+     *
+     * @throws AuthException 액세스 토큰이 유효하지 않은 경우
+     */
+    public void logout(String bearerToken, String refreshToken) {
+        JwtPrincipal principal;
+        try {
+            principal = jwtUtil.resolvePrincipal(jwtUtil.substringToken(bearerToken));
+        } catch (JwtException | IllegalArgumentException | ServerException e) {
+            throw new AuthException("유효하지 않은 JWT 토큰입니다.");
+        }
+
+        tokenRevocationService.revoke(principal.getTokenId(), principal.getExpiresAt());
+        if (refreshToken != null) {
+            refreshTokenService.revokeFamily(refreshToken);
+        }
+    }
+
+    /*
+     * 위반된 제약이 이메일 unique 제약인지 확인합니다.
+     * DB마다 제약 이름에 스키마, 테이블 이름이나 인덱스 접미사가 붙어 나오므로 이름이 포함되어 있는지로 판단합니다.
+     */
+    private boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
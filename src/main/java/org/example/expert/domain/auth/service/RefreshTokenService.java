@@ -0,0 +1,122 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰을 발급하고 회전(rotation)하는 클래스입니다.
+ * 토큰은 한 번만 사용할 수 있고, 사용하면 같은 family의 새 토큰으로 교체됩니다.
+ * 이미 사용된 토큰이 다시 들어오면 탈취된 것으로 보고 family 전체를 폐기합니다.
+ */
+@Slf4j(topic = "RefreshTokenService")
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final Counter rotatedCounter;
+    private final Counter reuseCounter;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-token.ttl:14d}") Duration ttl
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = ttl;
+        this.rotatedCounter = meterRegistry.counter("auth.refresh", "result", "rotated");
+        this.reuseCounter = meterRegistry.counter("auth.refresh", "result", "reuse_detected");
+    }
+
+    /**
+     * 로그인 시 새 family로 리프레시 토큰을 발급합니다.
+     *
+     * @return 클라이언트에 전달할 토큰 원문
+     */
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 사용 처리하고 같은 family의 새 토큰을 발급합니다.
+     * 재사용이 감지되면 family를 폐기하므로, 호출하는 트랜잭션은 AuthException에서 롤백하지 않아야 합니다.
+     *
+     * @throws AuthException 토큰이 없거나 만료되었거나 이미 사용된 경우
+     */
+    public IssuedRefreshToken rotate(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (refreshToken.isUsed() || refreshTokenRepository.markUsed(refreshToken.getId()) == 0) {
+            reuseCounter.increment();
+            log.warn("리프레시 토큰 재사용 감지 userId: {}, familyId: {}", refreshToken.getUserId(), refreshToken.getFamilyId());
+            refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            throw new AuthException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new AuthException("만료된 리프레시 토큰입니다.");
+        }
+
+        rotatedCounter.increment();
+        String newToken = issue(refreshToken.getUserId(), refreshToken.getFamilyId());
+        return new IssuedRefreshToken(refreshToken.getUserId(), newToken);
+    }
+
+    /**
+     * 로그아웃 시 리프레시 토큰이 속한 family 전체를 폐기합니다.
+     */
+    public void revokeFamily(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(refreshToken -> refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId()));
+    }
+
+    /**
+     * 만료된 토큰을 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.cleanup-interval:3600000}")
+    public void deleteExpiredTokens() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = BASE64_URL.encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), userId, familyId, LocalDateTime.now().plus(ttl)));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return BASE64_URL.encodeToString(digest.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record IssuedRefreshToken(Long userId, String token) {
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti)을 관리하는 클래스입니다.
+ * 폐기 목록 앞에 Bloom filter를 두어, 대부분인 "폐기되지 않은 토큰"은 DB 조회 없이 판단합니다.
+ * Bloom filter가 양성일 때만 DB에서 확인하며, 오탐률을 유지하기 위해 주기적으로 만료된 항목을 지우고 다시 만듭니다.
+ * 다른 인스턴스에서 폐기한 토큰은 다음 재생성 때 반영됩니다.
+ */
+@Slf4j(topic = "TokenRevocationService")
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재생성 중에 폐기된 토큰을 모아두었다가 새 filter에 반영합니다.
+    private volatile Set<String> revokedDuringRebuild;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private final Counter negativeCounter;
+    private final Counter revokedCounter;
+    private final Counter falsePositiveCounter;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.expected-insertions:100000}") long minExpectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(minExpectedInsertions, falsePositiveRate);
+
+        this.negativeCounter = meterRegistry.counter("jwt.revocation.checks", "result", "not_revoked");
+        this.revokedCounter = meterRegistry.counter("jwt.revocation.checks", "result", "revoked");
+        this.falsePositiveCounter = meterRegistry.counter("jwt.revocation.checks", "result", "false_positive");
+        meterRegistry.gauge("jwt.revocation.filter.insertions", this, service -> service.filter.getInsertions());
+    }
+
+    /**
+     * 토큰을 exp까지 폐기합니다.
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null) return;
+
+        revokedTokenRepository.saveAndFlush(new RevokedToken(tokenId, toLocalDateTime(expiresAtMillis)));
+
+        swapLock.readLock().lock();
+        try {
+            filter.put(tokenId);
+            Set<String> pending = revokedDuringRebuild;
+            if (pending != null) {
+                pending.add(tokenId);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. jti가 없는 토큰은 폐기할 수 없으므로 false입니다.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        if (revokedTokenRepository.existsActive(tokenId, LocalDateTime.now())) {
+            revokedCounter.increment();
+            return true;
+        }
+        falsePositiveCounter.increment();
+        return false;
+    }
+
+    /**
+     * 만료된 항목을 삭제하고, 남은 폐기 목록으로 Bloom filter를 다시 만듭니다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval:600000}")
+    public void rebuild() {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        revokedDuringRebuild = pending;
+
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        List<String> tokenIds = revokedTokenRepository.findActiveTokenIds(now);
+
+        // 폐기 목록이 늘어나도 오탐률이 유지되도록 여유를 두고 크기를 정합니다.
+        BloomFilter next = new BloomFilter(Math.max(minExpectedInsertions, tokenIds.size() * 2L), falsePositiveRate);
+        tokenIds.forEach(next::put);
+
+        swapLock.writeLock().lock();
+        try {
+            pending.forEach(next::put);
+            filter = next;
+            revokedDuringRebuild = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("폐기 토큰 Bloom filter 재생성: {}건, {}bits, hash {}회", tokenIds.size(), next.getBitSize(), next.getHashCount());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -7,13 +7,18 @@ import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Entity
 @NoArgsConstructor
 @Table(name = "comments")
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일정 가져오기에서 INSERT를 묶어서 보낼 수 있도록 시퀀스로 id를 할당받습니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 100)
     private Long id;
     private String contents;
 
@@ -31,6 +36,16 @@ public class Comment extends Timestamped {
         this.todo = todo;
     }
 
+    /**
+     * 이전 시스템에서 가져온 댓글을 만듭니다. 작성/수정일을 그대로 유지합니다.
+     */
+    public static Comment imported(String contents, User user, Todo todo,
+                                   LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        Comment comment = new Comment(contents, user, todo);
+        comment.initTimestamps(createdAt, modifiedAt);
+        return comment;
+    }
+
     public void update(String contents) {
         this.contents = contents;
     }
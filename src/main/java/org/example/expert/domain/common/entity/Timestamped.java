@@ -22,4 +22,12 @@ public abstract class Timestamped {
     @Column
     @Temporal(TemporalType.TIMESTAMP)
     private LocalDateTime modifiedAt;
+
+    /*
+     * Auditing이 동작하지 않는 StatelessSession 저장이나, 이전 시스템의 작성/수정일을 유지해야 하는 경우에 사용합니다.
+     */
+    protected void initTimestamps(LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
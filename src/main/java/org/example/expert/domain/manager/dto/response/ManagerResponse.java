@@ -13,4 +13,8 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    public ManagerResponse(Long id, Long userId, String email) {
+        this(id, new UserResponse(userId, email));
+    }
 }
@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoImportService todoImportService;
+
+    /**
+     * 요청 본문의 NDJSON 또는 CSV 파일에서 일정을 가져옵니다. 본문은 메모리에 올리지 않고 스트리밍으로 읽습니다.
+     * Content-Encoding이 gzip이면 압축을 풀면서 읽습니다.
+     */
+    @PostMapping("/admin/todos/imports/{importId}")
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @PathVariable String importId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body
+    ) throws IOException {
+        TodoFileFormat fileFormat = TodoFileFormat.of(format);
+        InputStream in = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body, 8192) : body;
+        return ResponseEntity.ok(todoImportService.importTodos(importId, fileFormat, in));
+    }
+
+    @GetMapping("/admin/todos/imports/{importId}")
+    public ResponseEntity<TodoImportResponse> getImport(@PathVariable String importId) {
+        return ResponseEntity.ok(todoImportService.getImport(importId));
+    }
+}
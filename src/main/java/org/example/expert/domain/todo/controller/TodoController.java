@@ -4,19 +4,42 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoFeedCache;
+import org.example.expert.domain.todo.service.TodoSearchService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoVersion;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoFeedCache todoFeedCache;
+    private final TodoSearchService todoSearchService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +49,172 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBulkSaveRequest todoBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBulkSaveRequest));
+    }
+
+    /**
+     * 조건 없는 일정 목록입니다. 앞쪽 페이지는 직렬화된 JSON을 캐시에서 바로 내려줍니다.
+     * 클라이언트가 같은 본문을 갖고 있으면(If-None-Match) 본문 없이 304로 응답합니다.
+     */
+    @GetMapping(value = "/todos", params = {"!weather", "!modifiedFrom", "!modifiedTo", "approximateTotal!=true"})
+    public ResponseEntity<byte[]> getTodoFeed(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ) {
+        // 캐시에 있으면 트랜잭션을 시작하지 않도록 서비스 밖에서 캐시를 먼저 확인합니다.
+        TodoFeedCache.FeedPage feed = todoFeedCache.getOrLoad(page, size, () -> todoService.getTodos(page, size));
+        if (webRequest.checkNotModified(feed.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.json());
+    }
+
+    /**
+     * 날씨, 수정일 조건이나 근사 개수를 요청한 일정 목록입니다. 캐시하지 않습니다.
+     */
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedTo
     ) {
+        // 조건이 있으면 근사 개수 대신 인덱스 범위의 개수를 사용합니다.
+        if (weather != null || modifiedFrom != null || modifiedTo != null) {
+            return ResponseEntity.ok(todoService.getTodos(page, size, weather, modifiedFrom, modifiedTo));
+        }
+        if (approximateTotal) {
+            return ResponseEntity.ok(todoService.getTodosWithApproximateTotal(page, size));
+        }
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/todos/slice")
+    public ResponseEntity<TodoSliceResponse> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<TodoCursorResponse> searchTodos(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoSearchService.search(q, cursor, size));
+    }
+
+    /**
+     * 전체 일정을 NDJSON 또는 CSV로 내보냅니다.
+     * 요청 스레드를 붙잡지 않도록 응답은 비동기로 스트리밍하며, Accept-Encoding이 gzip을 허용하면 압축하여 보냅니다.
+     */
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        TodoFileFormat fileFormat = TodoFileFormat.of(format);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                todoExportService.export(fileFormat, out);
+                return;
+            }
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+            todoExportService.export(fileFormat, gzipOut);
+            gzipOut.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(fileFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("todos." + fileFormat.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // 조건부 요청이면 ETag 값만 먼저 조회하여, 변경이 없으면 일정과 작성자를 조회하지 않고 304로 응답합니다.
+        // 조건부 요청이 아니면 어차피 본문을 만들어야 하므로 바로 일정을 조회합니다.
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(todoService.getTodoVersion(todoId).etag())) {
+            return null;
+        }
+        // 두 조회 사이에 수정될 수 있으므로 ETag는 실제로 응답하는 본문으로 만듭니다.
+        TodoResponse todo = todoService.getTodo(todoId);
+        return ResponseEntity.ok()
+                .eTag(TodoVersion.of(todo).etag())
+                .cacheControl(CacheControl.noCache())
+                .body(todo);
+    }
+
+    /*
+     * Accept-Encoding의 각 항목을 coding과 q 값으로 나누어 gzip을 허용하는지 판단합니다.
+     * gzip(x-gzip)이 명시되었으면 그 q 값을, 없으면 *의 q 값을 따르며, q=0은 거부입니다.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    /*
+     * coding 뒤의 파라미터에서 q 값을 읽습니다. 없으면 1이고, 잘못된 값이면 허용하지 않은 것으로 봅니다.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] param = parts[i].trim().split("=", 2);
+            if (param.length == 2 && param[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(param[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 }
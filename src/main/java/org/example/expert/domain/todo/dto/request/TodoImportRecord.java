@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정 가져오기 파일의 한 레코드입니다. 일정과 함께 담당자, 댓글을 포함할 수 있습니다. (CSV는 댓글 제외)
+ * weather가 없으면 가져오기마다 한 번 조회한 오늘의 날씨를, 작성/수정일이 없으면 가져온 시각을 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRecord {
+
+    private Long userId;
+    private String title;
+    private String contents;
+    private String weather;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    // 작성자 외의 담당자
+    private List<Long> managerUserIds;
+    private List<Comment> comments;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Comment {
+
+        private Long userId;
+        private String contents;
+        private LocalDateTime createdAt;
+        private LocalDateTime modifiedAt;
+    }
+}
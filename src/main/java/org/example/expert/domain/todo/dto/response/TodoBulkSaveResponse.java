@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final List<Long> ids;
+    private final String weather;
+
+    public TodoBulkSaveResponse(List<Long> ids, String weather) {
+        this.ids = ids;
+        this.weather = weather;
+    }
+}
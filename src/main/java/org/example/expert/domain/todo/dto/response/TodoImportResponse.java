@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.entity.TodoImportCheckpoint;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoImportResponse {
+
+    private final String importId;
+    private final TodoImportStatus status;
+    private final long processedRecords;
+    private final long importedTodos;
+    private final long rejectedRecords;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+
+    public TodoImportResponse(TodoImportCheckpoint checkpoint) {
+        this.importId = checkpoint.getImportId();
+        this.status = checkpoint.getStatus();
+        this.processedRecords = checkpoint.getProcessedRecords();
+        this.importedTodos = checkpoint.getImportedTodos();
+        this.rejectedRecords = checkpoint.getRejectedRecords();
+        this.startedAt = checkpoint.getStartedAt();
+        this.updatedAt = checkpoint.getUpdatedAt();
+    }
+}
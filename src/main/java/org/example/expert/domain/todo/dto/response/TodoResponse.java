@@ -11,6 +11,7 @@ public class TodoResponse {
     private final Long id;
     private final String title;
     private final String contents;
+    // 날씨가 아직 채워지지 않은 일정은 null로 응답합니다.
     private final String weather;
     private final UserResponse user;
     private final LocalDateTime createdAt;
@@ -25,4 +26,9 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 표현식용
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt);
+    }
 }
@@ -8,19 +8,29 @@ import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 목록 정렬(modified_at DESC, id DESC)과 같은 순서로 두어, 기간 조회와 커서 페이지네이션에서 정렬 없이 인덱스 순서대로 읽습니다.
+        @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt DESC, id DESC"),
+        // 날씨 + 기간 조회용
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modifiedAt DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 INSERT마다 id를 받아와야 하므로 JDBC 배치가 꺼집니다. 시퀀스에서 id를 미리 할당받아(pooled) INSERT를 묶어서 보냅니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 100)
     private Long id;
     private String title;
     private String contents;
+    // 날씨가 아직 채워지지 않았으면 null입니다. (비동기 보강 모드이거나 날씨 조회에 실패한 경우)
     private String weather;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,6 +51,20 @@ public class Todo extends Timestamped {
         this.managers.add(new Manager(user, this));
     }
 
+    /**
+     * 이전 시스템에서 가져온 일정을 만듭니다. 작성/수정일을 그대로 유지합니다.
+     */
+    public static Todo imported(String title, String contents, String weather, User user,
+                                LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        Todo todo = new Todo(title, contents, weather, user);
+        todo.initTimestamps(createdAt, modifiedAt);
+        return todo;
+    }
+
+    public boolean isWeatherPending() {
+        return weather == null;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 가져오기의 진행 상황입니다.
+ * 레코드를 저장하는 트랜잭션에서 함께 갱신하므로, processedRecords까지는 정확히 한 번 저장된 것이 보장됩니다.
+ * 같은 importId로 다시 요청하면 processedRecords개의 레코드를 건너뛰고 이어서 저장합니다.
+ * StatelessSession으로 저장하므로 Auditing 대신 시각을 직접 기록합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_import_checkpoints")
+public class TodoImportCheckpoint {
+
+    @Id
+    private String importId;
+
+    @Enumerated(EnumType.STRING)
+    private TodoImportStatus status;
+
+    // 입력에서 읽어 처리를 마친 레코드 수 (저장 + 거부)
+    private long processedRecords;
+    private long importedTodos;
+    private long rejectedRecords;
+    // 가져온 일정 중 가장 작은 id, 가져온 일정을 검색 색인에 추가할 때 사용합니다.
+    private Long firstTodoId;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    public TodoImportCheckpoint(String importId) {
+        this.importId = importId;
+        this.status = TodoImportStatus.IN_PROGRESS;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public void resume() {
+        this.status = TodoImportStatus.IN_PROGRESS;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 한 묶음을 저장한 결과를 반영합니다.
+     *
+     * @param processedRecords 이 묶음까지 입력에서 읽은 레코드 수
+     * @param firstTodoId 이 묶음에서 저장한 일정 중 가장 작은 id, 없으면 null
+     */
+    public void advance(long processedRecords, long imported, long rejected, Long firstTodoId) {
+        this.processedRecords = processedRecords;
+        this.importedTodos += imported;
+        this.rejectedRecords += rejected;
+        if (firstTodoId != null && (this.firstTodoId == null || firstTodoId < this.firstTodoId)) {
+            this.firstTodoId = firstTodoId;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = TodoImportStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == TodoImportStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSavedEvent {
+
+    private final List<Long> todoIds;
+    private final boolean weatherPending;
+
+    public TodoBulkSavedEvent(List<Long> todoIds, boolean weatherPending) {
+        this.todoIds = todoIds;
+        this.weatherPending = weatherPending;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+/**
+ * 일정 가져오기가 끝났을 때, 그리고 일부 묶음을 커밋한 뒤 실패했을 때 발행합니다.
+ * 가져오기는 묶음마다 직접 커밋하므로 발행 시점에는 그때까지 저장한 일정이 모두 커밋되어 있습니다.
+ */
+@Getter
+public class TodoImportedEvent {
+
+    private final String importId;
+    // 가져온 일정 중 가장 작은 id, 가져온 일정이 없으면 null
+    private final Long firstTodoId;
+    private final boolean weatherPending;
+
+    public TodoImportedEvent(String importId, Long firstTodoId, boolean weatherPending) {
+        this.importId = importId;
+        this.firstTodoId = firstTodoId;
+        this.weatherPending = weatherPending;
+    }
+}
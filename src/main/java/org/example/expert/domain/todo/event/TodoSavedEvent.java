@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSavedEvent {
+
+    private final Long todoId;
+    private final boolean weatherPending;
+
+    public TodoSavedEvent(Long todoId, boolean weatherPending) {
+        this.todoId = todoId;
+        this.weatherPending = weatherPending;
+    }
+}
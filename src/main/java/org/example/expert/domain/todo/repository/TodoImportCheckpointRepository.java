@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TodoImportCheckpointRepository extends JpaRepository<TodoImportCheckpoint, String> {
+}
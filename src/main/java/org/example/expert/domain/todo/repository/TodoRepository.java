@@ -1,24 +1,119 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoSearchDocument;
+import org.example.expert.domain.todo.service.TodoVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 엔티티 대신 DTO로 조회하여 영속성 컨텍스트에 스냅샷을 남기지 않습니다.
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findResponsesByOrderByModifiedAtDesc(Pageable pageable);
+
+    // Slice는 size + 1건을 조회하여 다음 페이지 여부만 판단하고, COUNT 쿼리를 실행하지 않습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC")
+    Slice<TodoResponse> findResponseSliceByOrderByModifiedAtDesc(Pageable pageable);
 
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    // 조건부 요청의 ETag 비교용으로 수정 시각과 날씨가 채워졌는지만 조회하며, 엔티티를 만들지 않고 users도 조인하지 않습니다.
+    @Query("SELECT new org.example.expert.domain.todo.service.TodoVersion(" +
+            "t.modifiedAt, CASE WHEN t.weather IS NULL THEN true ELSE false END) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") long todoId);
+
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.modifiedAt BETWEEN :from AND :to " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t WHERE t.modifiedAt BETWEEN :from AND :to")
+    Page<TodoResponse> findResponsesByModifiedAtBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // weather는 조건으로 고정되므로 정렬에 넣어도 순서는 같고, (weather, modified_at, id) 인덱스 순서를 그대로 읽을 수 있습니다.
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.weather = :weather AND t.modifiedAt BETWEEN :from AND :to " +
+            "ORDER BY t.weather, t.modifiedAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t WHERE t.weather = :weather AND t.modifiedAt BETWEEN :from AND :to")
+    Page<TodoResponse> findResponsesByWeatherAndModifiedAtBetween(
+            @Param("weather") String weather,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPage(Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextPage(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.id IN :todoIds")
+    List<TodoResponse> findResponsesByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new org.example.expert.domain.todo.service.TodoSearchDocument(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    List<TodoSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.service.TodoSearchDocument(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id IN :todoIds")
+    List<TodoSearchDocument> findSearchDocumentsByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    long countByIdLessThanEqual(Long todoId);
+
     int countById(Long todoId);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.weather IS NULL")
+    List<Long> findIdsByWeatherIsNull();
+
+    // 백그라운드에서 날씨를 채우는 것은 사용자의 수정이 아니므로 modifiedAt은 바꾸지 않습니다.
+    // (목록 순서와 가져온 일정의 수정일이 그대로 유지됩니다.)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather WHERE t.id IN :todoIds AND t.weather IS NULL")
+    int fillPendingWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
 }
\ No newline at end of file
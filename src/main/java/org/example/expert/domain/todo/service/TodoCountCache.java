@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.event.TodoBulkSavedEvent;
+import org.example.expert.domain.todo.event.TodoImportedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 전체 개수의 근사값을 유지하는 클래스입니다.
+ * 목록 조회마다 COUNT(*)를 실행하지 않도록, 일정이 저장(커밋)될 때마다 값을 늘리고
+ * 다른 경로로 생기는 오차는 주기적으로 COUNT(*)를 한 번 실행하여 보정합니다.
+ */
+@Component
+public class TodoCountCache {
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong count = new AtomicLong();
+
+    public TodoCountCache(TodoRepository todoRepository, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        meterRegistry.gauge("todo.count.approximate", count);
+    }
+
+    public long get() {
+        return count.get();
+    }
+
+    /**
+     * 여러 건을 한 번에 저장(삭제)한 경로에서 개수를 반영합니다.
+     */
+    public void add(long delta) {
+        count.addAndGet(delta);
+    }
+
+    @TransactionalEventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        count.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onTodoBulkSaved(TodoBulkSavedEvent event) {
+        add(event.getTodoIds().size());
+    }
+
+    /**
+     * 가져오기는 이어서 진행한 경우 이전 실행분까지 포함되므로 실제 개수로 보정합니다.
+     */
+    @EventListener
+    public void onTodosImported(TodoImportedEvent event) {
+        reconcile();
+    }
+
+    /**
+     * 시작 시, 그리고 주기적으로 실제 개수로 보정합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${todo.count.reconcile-interval:300000}",
+            initialDelayString = "${todo.count.reconcile-interval:300000}")
+    public void reconcile() {
+        count.set(todoRepository.count());
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 일정 목록 커서입니다. 마지막으로 받은 일정의 (modifiedAt, id)를 담으며, 클라이언트에는 불투명한 문자열로 전달합니다.
+ */
+public record TodoCursor(LocalDateTime modifiedAt, long id) {
+
+    private static final char SEPARATOR = '_';
+
+    /*
+     * DB 컬럼은 마이크로초까지만 저장하므로, 영속성 컨텍스트의 나노초 값을 그대로 쓰면 비교 결과가 달라질 수 있습니다.
+     */
+    public TodoCursor {
+        modifiedAt = modifiedAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public String encode() {
+        String raw = modifiedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidRequestException 커서 형식이 올바르지 않은 경우
+     */
+    public static TodoCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
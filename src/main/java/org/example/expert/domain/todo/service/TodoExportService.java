@@ -0,0 +1,147 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 일정을 NDJSON 또는 CSV로 내보내는 클래스입니다.
+ * 페이지를 나누어 OFFSET/COUNT 쿼리를 반복하지 않고, 하나의 쿼리를 앞으로만 읽는 커서로 열어 한 행씩 바로 씁니다.
+ * 엔티티 대신 DTO로 조회하므로 영속성 컨텍스트에 쌓이는 것이 없어, 일정 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+public class TodoExportService {
+
+    private static final String EXPORT_QUERY = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.id";
+
+    private static final String CSV_HEADER = "id,title,contents,weather,userId,email,createdAt,modifiedAt";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TodoExportService(
+            EntityManager entityManager,
+            EntityManagerFactory entityManagerFactory,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // MySQL 드라이버는 useCursorFetch 없이는 양수 fetch size를 무시하고 결과 전체를 메모리에 읽으므로,
+        // Integer.MIN_VALUE로 한 행씩 스트리밍하게 합니다.
+        boolean mysql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof MySQLDialect;
+        this.fetchSize = mysql ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    /**
+     * 전체 일정을 id 순서로 out에 씁니다. out은 닫지 않습니다.
+     *
+     * @return 내보낸 일정 수
+     */
+    @Transactional(readOnly = true)
+    public long export(TodoFileFormat format, OutputStream out) throws IOException {
+        try (Stream<TodoResponse> todos = entityManager.createQuery(EXPORT_QUERY, TodoResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(todos.iterator(), out);
+                case CSV -> writeCsv(todos.iterator(), out);
+            };
+        }
+    }
+
+    /*
+     * 한 줄에 일정 하나씩, 목록 API와 같은 JSON 형태로 씁니다.
+     */
+    private long writeNdjson(Iterator<TodoResponse> todos, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (todos.hasNext()) {
+                generator.writeObject(todos.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * RFC 4180 형식으로 씁니다. 작성자는 userId, email 컬럼으로 펼칩니다.
+     */
+    private long writeCsv(Iterator<TodoResponse> todos, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (todos.hasNext()) {
+            TodoResponse todo = todos.next();
+            writer.write(String.valueOf(todo.getId()));
+            writer.write(',');
+            writeCsvField(writer, todo.getTitle());
+            writer.write(',');
+            writeCsvField(writer, todo.getContents());
+            writer.write(',');
+            writeCsvField(writer, todo.getWeather());
+            writer.write(',');
+            writer.write(String.valueOf(todo.getUser().getId()));
+            writer.write(',');
+            writeCsvField(writer, todo.getUser().getEmail());
+            writer.write(',');
+            writeCsvField(writer, format(todo.getCreatedAt()));
+            writer.write(',');
+            writeCsvField(writer, format(todo.getModifiedAt()));
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /*
+     * 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씁니다. null은 빈 값입니다.
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.toString();
+    }
+}
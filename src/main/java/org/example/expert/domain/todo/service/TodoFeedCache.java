@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoBulkSavedEvent;
+import org.example.expert.domain.todo.event.TodoImportedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 일정 목록(GET /todos) 앞쪽 페이지의 응답 JSON을 바이트 배열로 보관하는 캐시입니다.
+ * 일정이 저장되거나 수정되면 전체 버전을 올리고, 저장된 버전이 현재 버전과 다른 항목은 사용하지 않습니다.
+ * 캐시에 있으면 DB 조회와 JSON 직렬화를 모두 건너뜁니다.
+ * <p>
+ * 버전은 이 인스턴스 안의 변경 이벤트로만 올라갑니다. 여러 인스턴스로 실행하거나 DB를 직접 수정하면 그 변경은 버전에 반영되지 않으므로,
+ * 저장된 항목은 ttl이 지나면 버전과 관계없이 다시 조회합니다. 즉 다른 곳의 변경은 최대 ttl 동안 보이지 않을 수 있습니다.
+ * 응답의 ETag는 버전이 아니라 본문의 해시이므로, 어느 인스턴스에서 만든 응답이든 내용이 같을 때만 같은 값을 가집니다.
+ */
+@Component
+public class TodoFeedCache {
+
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final int maxPageSize;
+    private final long ttlNanos;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TodoFeedCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${todo.feed-cache.max-pages:2}") int maxPages,
+            @Value("${todo.feed-cache.max-page-size:50}") int maxPageSize,
+            @Value("${todo.feed-cache.ttl:5s}") Duration ttl
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.ttlNanos = ttl.toNanos();
+        this.hitCounter = meterRegistry.counter("todo.feed-cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("todo.feed-cache.requests", "result", "miss");
+    }
+
+    /**
+     * 해당 페이지의 응답 JSON과 ETag를 반환합니다.
+     * 캐시에 없거나 버전 또는 ttl이 지났다면 loader로 조회하여 직렬화하고, 캐시 대상 페이지라면 저장합니다.
+     *
+     * @param page 1부터 시작하는 페이지 번호
+     * @param loader 캐시에 없을 때 목록을 조회하는 함수
+     * @return {@link PagedModel} 형식으로 직렬화한 JSON과 그 ETag
+     */
+    public FeedPage getOrLoad(int page, int size, Supplier<Page<TodoResponse>> loader) {
+        if (page < 1 || page > maxPages || size < 1 || size > maxPageSize) {
+            return serialize(loader.get());
+        }
+
+        PageKey key = new PageKey(page, size);
+        // 조회 전에 버전을 읽어두어야, 조회 중에 커밋된 변경이 있으면 저장한 항목이 바로 무효가 됩니다.
+        long currentVersion = version.get();
+
+        long now = System.nanoTime();
+
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.version() == currentVersion && now - cached.loadedAt() < ttlNanos) {
+            hitCounter.increment();
+            return cached.feed();
+        }
+        missCounter.increment();
+
+        FeedPage feed = serialize(loader.get());
+        pages.put(key, new CachedPage(currentVersion, now, feed));
+        return feed;
+    }
+
+    /**
+     * 캐시된 모든 페이지를 무효화합니다.
+     * 일정을 변경한 트랜잭션이 커밋된 후에 호출해야 합니다.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    public void onTodoBulkSaved(TodoBulkSavedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onTodosImported(TodoImportedEvent event) {
+        invalidate();
+    }
+
+    /*
+     * 직렬화하면서 본문의 MD5를 ETag로 계산해둡니다. 캐시된 페이지는 요청마다 다시 계산하지 않습니다.
+     */
+    private FeedPage serialize(Page<TodoResponse> page) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new PagedModel<>(page));
+            return new FeedPage(json, DigestUtils.md5DigestAsHex(json));
+        } catch (JsonProcessingException e) {
+            throw new ServerException("일정 목록을 직렬화하지 못했습니다.");
+        }
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    /**
+     * 일정 목록 응답 JSON과 그 ETag입니다.
+     */
+    public record FeedPage(byte[] json, String etag) {
+    }
+
+    private record CachedPage(long version, long loadedAt, FeedPage feed) {
+    }
+}
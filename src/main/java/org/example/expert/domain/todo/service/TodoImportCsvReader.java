@@ -0,0 +1,146 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 형식의 CSV를 한 행씩 읽습니다. 따옴표로 감싼 값 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표를 처리합니다.
+ * 첫 행은 헤더이고 userId, title, contents는 필수, weather, createdAt, modifiedAt, managerUserIds(';'로 구분)는 선택입니다.
+ * 헤더의 순서는 자유이며, 모르는 컬럼은 무시합니다. 댓글은 CSV로 가져올 수 없습니다.
+ */
+class TodoImportCsvReader implements TodoImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("userId", "title", "contents");
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long row;
+
+    TodoImportCsvReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        List<String> header = readRow();
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            // Excel 등이 붙이는 BOM을 제거합니다.
+            columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new InvalidRequestException("CSV 헤더에 " + column + " 컬럼이 없습니다.");
+            }
+        }
+    }
+
+    @Override
+    public TodoImportRecord next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRow();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty()); // 빈 행은 건너뜁니다.
+
+        try {
+            String managerUserIds = field(fields, "managerUserIds");
+            return new TodoImportRecord(
+                    parseLong(field(fields, "userId")),
+                    field(fields, "title"),
+                    field(fields, "contents"),
+                    field(fields, "weather"),
+                    parseDateTime(field(fields, "createdAt")),
+                    parseDateTime(field(fields, "modifiedAt")),
+                    managerUserIds == null ? null : Arrays.stream(managerUserIds.split(";"))
+                            .map(String::trim)
+                            .filter(id -> !id.isEmpty())
+                            .map(Long::valueOf)
+                            .toList(),
+                    null
+            );
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidRequestException("CSV " + row + "번째 행을 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /*
+     * 빈 값은 null로 반환합니다.
+     */
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private Long parseLong(String value) {
+        return value == null ? null : Long.valueOf(value.trim());
+    }
+
+    private LocalDateTime parseDateTime(String value) {
+        return value == null ? null : LocalDateTime.parse(value.trim());
+    }
+
+    /*
+     * 한 행을 읽어 값 목록으로 반환합니다. 파일의 끝이면 null을 반환합니다.
+     */
+    private List<String> readRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        row++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidRequestException("CSV " + row + "번째 행의 따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 한 줄에 {@link TodoImportRecord} 하나씩 있는 NDJSON을 스트리밍 파서로 읽습니다.
+ */
+class TodoImportNdjsonReader implements TodoImportReader {
+
+    private final MappingIterator<TodoImportRecord> records;
+
+    TodoImportNdjsonReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        this.records = objectMapper.readerFor(TodoImportRecord.class).readValues(in);
+    }
+
+    @Override
+    public TodoImportRecord next() throws IOException {
+        try {
+            return records.hasNextValue() ? records.nextValue() : null;
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException(
+                    "NDJSON " + e.getLocation().getLineNr() + "번째 줄을 읽을 수 없습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+}
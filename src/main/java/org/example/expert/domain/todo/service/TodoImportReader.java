@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportRecord;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 일정 가져오기 파일을 레코드 단위로 읽습니다. 파일 전체를 메모리에 올리지 않습니다.
+ */
+interface TodoImportReader extends Closeable {
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 다음 레코드, 파일의 끝이면 null
+     * @throws InvalidRequestException 파일 형식이 잘못된 경우
+     */
+    TodoImportRecord next() throws IOException;
+
+    static TodoImportReader open(TodoFileFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new TodoImportNdjsonReader(in, objectMapper);
+            case CSV -> new TodoImportCsvReader(in);
+        };
+    }
+}
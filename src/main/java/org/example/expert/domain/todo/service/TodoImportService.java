@@ -0,0 +1,472 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.request.TodoImportRecord;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoImportCheckpoint;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+import org.example.expert.domain.todo.event.TodoImportedEvent;
+import org.example.expert.domain.todo.repository.TodoImportCheckpointRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.service.UserReferenceCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이전 시스템의 일정, 담당자, 댓글을 NDJSON 또는 CSV 파일에서 대량으로 가져오는 클래스입니다.
+ * 요청 스레드가 파일을 스트리밍으로 읽어 batchSize개씩 크기가 제한된 대기열에 넣고,
+ * 저장 스레드가 대기열에서 꺼내 StatelessSession으로 묶음마다 한 트랜잭션에 저장합니다.
+ * 대기열이 가득 차면 읽기를 멈추므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * <p>묶음을 저장하는 트랜잭션에서 {@link TodoImportCheckpoint}를 함께 갱신하므로, 중간에 실패하면
+ * 같은 importId로 같은 파일을 다시 요청하여 이어서 가져올 수 있습니다.
+ * 작성자와 담당자 id는 {@link UserReferenceCache}로 묶음마다 한 번에 확인하고, 날씨가 없는 레코드는 가져오기마다 한 번 조회한 날씨를 사용합니다.
+ */
+@Slf4j(topic = "TodoImportService")
+@Service
+public class TodoImportService {
+
+    private final SessionFactory sessionFactory;
+    private final ObjectMapper objectMapper;
+    private final UserReferenceCache userReferenceCache;
+    private final TodoWeatherEnrichmentService todoWeatherEnrichmentService;
+    private final TodoImportCheckpointRepository todoImportCheckpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int queueCapacity;
+
+    private final ExecutorService writerExecutor;
+    private final Set<String> runningImports = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger queuedBatches = new AtomicInteger();
+
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+
+    public TodoImportService(
+            EntityManagerFactory entityManagerFactory,
+            ObjectMapper objectMapper,
+            UserReferenceCache userReferenceCache,
+            TodoWeatherEnrichmentService todoWeatherEnrichmentService,
+            TodoImportCheckpointRepository todoImportCheckpointRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${todo.import.batch-size:1000}") int batchSize,
+            @Value("${todo.import.queue-capacity:4}") int queueCapacity
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.objectMapper = objectMapper;
+        this.userReferenceCache = userReferenceCache;
+        this.todoWeatherEnrichmentService = todoWeatherEnrichmentService;
+        this.todoImportCheckpointRepository = todoImportCheckpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writerExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "todo-import-writer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.importedCounter = meterRegistry.counter("todo.import.records", "result", "imported");
+        this.rejectedCounter = meterRegistry.counter("todo.import.records", "result", "rejected");
+        this.batchTimer = meterRegistry.timer("todo.import.batch.write");
+        meterRegistry.gauge("todo.import.running", runningImports, Set::size);
+        meterRegistry.gauge("todo.import.queue.size", queuedBatches);
+    }
+
+    /**
+     * 파일의 레코드를 모두 가져옵니다. 이전에 실패한 같은 importId의 가져오기가 있으면 저장된 레코드 다음부터 이어서 가져옵니다.
+     * 작성자, 담당자, 댓글 작성자가 존재하지 않거나 제목, 내용이 비어있는 레코드는 저장하지 않고 건너뜁니다.
+     *
+     * @param importId 가져오기를 구분하는 id, 이어서 가져올 때 같은 값을 사용합니다.
+     * @return 가져오기 결과, 이미 완료된 importId이면 파일을 읽지 않고 이전 결과를 반환합니다.
+     * @throws InvalidRequestException 같은 importId의 가져오기가 진행 중이거나 파일 형식이 잘못된 경우
+     */
+    public TodoImportResponse importTodos(String importId, TodoFileFormat format, InputStream in) throws IOException {
+        if (!runningImports.add(importId)) {
+            throw new InvalidRequestException("이미 진행 중인 가져오기입니다: " + importId);
+        }
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            TodoImportCheckpoint checkpoint = startCheckpoint(session, importId);
+            if (checkpoint.isCompleted()) {
+                return new TodoImportResponse(checkpoint);
+            }
+
+            long startedAt = System.nanoTime();
+            long skippedRecords = checkpoint.getProcessedRecords();
+            ImportWriter writer = new ImportWriter(session, checkpoint);
+            try {
+                readAndWrite(writer, format, in, skippedRecords);
+            } catch (IOException | RuntimeException e) {
+                // 저장 스레드가 끝난 뒤에만 여기로 오므로 세션과 체크포인트를 사용해도 됩니다.
+                markFailed(session, importId);
+                // 실패하기 전에 커밋된 묶음도 색인, 캐시, 날씨 채우기에 반영되어야 합니다.
+                if (checkpoint.getFirstTodoId() != null) {
+                    publishImported(importId, checkpoint, writer);
+                }
+                throw e;
+            }
+
+            inTransaction(session, () -> {
+                checkpoint.complete();
+                session.update(checkpoint);
+            });
+            long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            long records = checkpoint.getProcessedRecords() - skippedRecords;
+            log.info("일정 가져오기 {}를 완료했습니다. 처리: {}건 ({}건/s), 누적 저장: {}건, 누적 거부: {}건",
+                    importId, records, records * 1000 / elapsedMillis, checkpoint.getImportedTodos(), checkpoint.getRejectedRecords());
+
+            publishImported(importId, checkpoint, writer);
+            return new TodoImportResponse(checkpoint);
+        } finally {
+            runningImports.remove(importId);
+        }
+    }
+
+    /**
+     * 가져오기의 진행 상황을 조회합니다. 진행 중이면 마지막으로 커밋된 묶음까지의 결과입니다.
+     */
+    public TodoImportResponse getImport(String importId) {
+        return todoImportCheckpointRepository.findById(importId)
+                .map(TodoImportResponse::new)
+                .orElseThrow(() -> new InvalidRequestException("Import not found"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdownNow();
+    }
+
+    /*
+     * 파일을 읽어 대기열에 넣고, 저장 스레드가 모두 저장할 때까지 기다립니다.
+     * 읽기에 실패해도 이미 넣은 묶음은 저장하고 끝나도록 종료 표시를 넣습니다.
+     * 예외로 끝나더라도 저장 스레드가 세션을 더 이상 사용하지 않게 된 뒤에 반환합니다.
+     */
+    private void readAndWrite(ImportWriter writer, TodoFileFormat format, InputStream in, long skippedRecords) throws IOException {
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        CountDownLatch finished = new CountDownLatch(1);
+        Future<?> writing = writerExecutor.submit(() -> {
+            try {
+                writer.drain(queue);
+                return null;
+            } finally {
+                finished.countDown();
+            }
+        });
+
+        boolean read = false;
+        try (TodoImportReader reader = TodoImportReader.open(format, in, objectMapper)) {
+            long position = 0;
+            List<TodoImportRecord> records = new ArrayList<>(batchSize);
+            TodoImportRecord record;
+            while ((record = reader.next()) != null) {
+                position++;
+                if (position <= skippedRecords) continue;
+
+                records.add(record);
+                if (records.size() == batchSize) {
+                    if (!put(queue, new Batch(records, position), writing, finished)) break;
+                    records = new ArrayList<>(batchSize);
+                }
+            }
+            if (!records.isEmpty()) {
+                put(queue, new Batch(records, position), writing, finished);
+            }
+            read = true;
+        } finally {
+            put(queue, Batch.END, writing, finished);
+            awaitWriter(writing, finished, read);
+        }
+    }
+
+    /*
+     * 대기열에 자리가 날 때까지 기다립니다. 저장 스레드가 실패하여 끝났으면 false를 반환합니다.
+     */
+    private boolean put(BlockingQueue<Batch> queue, Batch batch, Future<?> writing, CountDownLatch finished) {
+        try {
+            while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+                if (writing.isDone()) {
+                    return false;
+                }
+            }
+            queuedBatches.incrementAndGet();
+            return true;
+        } catch (InterruptedException e) {
+            stopWriter(writing, finished);
+            throw new ServerException("일정 가져오기가 중단되었습니다.");
+        }
+    }
+
+    /*
+     * 저장 스레드가 끝날 때까지 기다립니다.
+     * 읽기가 실패한 경우에는 읽기 예외를 전달해야 하므로 저장 스레드의 예외는 로그만 남깁니다.
+     */
+    private void awaitWriter(Future<?> writing, CountDownLatch finished, boolean rethrow) {
+        try {
+            writing.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (!rethrow) {
+                log.warn("일정 가져오기 저장 중 오류가 발생했습니다: {}", cause.getMessage());
+                return;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("일정을 저장하지 못했습니다: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            stopWriter(writing, finished);
+            throw new ServerException("일정 가져오기가 중단되었습니다.");
+        }
+    }
+
+    /*
+     * 저장 스레드를 중단하고 실제로 끝날 때까지 기다립니다. cancel 후의 Future.get()은 스레드가 끝나기 전에 반환되므로 따로 기다립니다.
+     * 저장 중인 묶음은 커밋 또는 롤백까지 진행되므로, 이후에는 세션을 안전하게 사용할 수 있습니다.
+     * 인터럽트되어 호출되므로 기다리는 동안의 인터럽트는 무시하고, 끝난 뒤 인터럽트 상태를 복원합니다.
+     */
+    private void stopWriter(Future<?> writing, CountDownLatch finished) {
+        writing.cancel(true);
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException ignored) {
+                // 저장 스레드가 끝날 때까지 계속 기다립니다.
+            }
+        }
+        Thread.currentThread().interrupt();
+    }
+
+    /*
+     * 가져오기 이벤트를 발행합니다. 저장 스레드가 체크포인트를 더 이상 변경하지 않을 때 호출해야 합니다.
+     */
+    private void publishImported(String importId, TodoImportCheckpoint checkpoint, ImportWriter writer) {
+        eventPublisher.publishEvent(new TodoImportedEvent(importId, checkpoint.getFirstTodoId(), writer.weatherPending));
+    }
+
+    private TodoImportCheckpoint startCheckpoint(StatelessSession session, String importId) {
+        TodoImportCheckpoint existing = session.get(TodoImportCheckpoint.class, importId);
+        if (existing != null && existing.isCompleted()) {
+            return existing;
+        }
+
+        TodoImportCheckpoint checkpoint = existing != null ? existing : new TodoImportCheckpoint(importId);
+        inTransaction(session, () -> {
+            if (existing == null) {
+                session.insert(checkpoint);
+            } else {
+                checkpoint.resume();
+                session.update(checkpoint);
+            }
+        });
+        if (existing != null) {
+            log.info("일정 가져오기 {}를 {}번째 레코드 다음부터 이어서 진행합니다.", importId, checkpoint.getProcessedRecords());
+        }
+        return checkpoint;
+    }
+
+    /*
+     * 실패한 묶음의 진행 상황은 메모리에만 반영되었을 수 있으므로, 상태만 갱신합니다.
+     */
+    private void markFailed(StatelessSession session, String importId) {
+        try {
+            inTransaction(session, () -> session.createMutationQuery(
+                            "UPDATE TodoImportCheckpoint c SET c.status = :status, c.updatedAt = :now WHERE c.importId = :importId")
+                    .setParameter("status", TodoImportStatus.FAILED)
+                    .setParameter("now", LocalDateTime.now())
+                    .setParameter("importId", importId)
+                    .executeUpdate());
+        } catch (RuntimeException e) {
+            log.warn("일정 가져오기 {}의 실패 상태를 저장하지 못했습니다: {}", importId, e.getMessage());
+        }
+    }
+
+    private void inTransaction(StatelessSession session, Runnable work) {
+        Transaction transaction = session.beginTransaction();
+        try {
+            work.run();
+            transaction.commit();
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * 입력에서 읽은 레코드 묶음입니다. position은 이 묶음의 마지막 레코드가 입력에서 몇 번째인지입니다.
+     */
+    private record Batch(List<TodoImportRecord> records, long position) {
+
+        private static final Batch END = new Batch(List.of(), -1);
+    }
+
+    /*
+     * 저장 스레드에서 대기열의 묶음을 저장합니다. 한 가져오기의 묶음은 순서대로 하나의 스레드에서만 저장하므로,
+     * 체크포인트의 processedRecords 이전의 레코드는 모두 저장된 것입니다.
+     */
+    private class ImportWriter {
+
+        private final StatelessSession session;
+        private final TodoImportCheckpoint checkpoint;
+        private String defaultWeather;
+        private boolean defaultWeatherResolved;
+        private boolean weatherPending;
+
+        private ImportWriter(StatelessSession session, TodoImportCheckpoint checkpoint) {
+            this.session = session;
+            this.checkpoint = checkpoint;
+        }
+
+        private void drain(BlockingQueue<Batch> queue) throws InterruptedException {
+            while (true) {
+                Batch batch = queue.take();
+                queuedBatches.decrementAndGet();
+                if (batch == Batch.END) {
+                    return;
+                }
+                batchTimer.record(() -> write(batch));
+            }
+        }
+
+        private void write(Batch batch) {
+            Set<Long> userIds = new LinkedHashSet<>();
+            for (TodoImportRecord record : batch.records()) {
+                userIds.add(record.getUserId());
+                if (record.getManagerUserIds() != null) {
+                    userIds.addAll(record.getManagerUserIds());
+                }
+                if (record.getComments() != null) {
+                    record.getComments().forEach(comment -> userIds.add(comment.getUserId()));
+                }
+            }
+            Set<Long> existingUserIds = userReferenceCache.findExisting(userIds);
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Todo> todos = new ArrayList<>(batch.records().size());
+            List<Manager> managers = new ArrayList<>();
+            List<Comment> comments = new ArrayList<>();
+            long rejected = 0;
+            for (TodoImportRecord record : batch.records()) {
+                if (!isValid(record, existingUserIds)) {
+                    rejected++;
+                    continue;
+                }
+
+                LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : now;
+                LocalDateTime modifiedAt = record.getModifiedAt() != null ? record.getModifiedAt() : createdAt;
+                Todo todo = Todo.imported(record.getTitle(), record.getContents(), weatherOf(record),
+                        User.reference(record.getUserId()), createdAt, modifiedAt);
+                todos.add(todo);
+
+                // 작성자는 Todo 생성자에서 담당자로 추가됩니다.
+                managers.addAll(todo.getManagers());
+                if (record.getManagerUserIds() != null) {
+                    record.getManagerUserIds().stream()
+                            .distinct()
+                            .filter(managerUserId -> !managerUserId.equals(record.getUserId()))
+                            .forEach(managerUserId -> managers.add(new Manager(User.reference(managerUserId), todo)));
+                }
+                if (record.getComments() != null) {
+                    for (TodoImportRecord.Comment comment : record.getComments()) {
+                        LocalDateTime commentCreatedAt = comment.getCreatedAt() != null ? comment.getCreatedAt() : now;
+                        comments.add(Comment.imported(comment.getContents(), User.reference(comment.getUserId()), todo,
+                                commentCreatedAt, comment.getModifiedAt() != null ? comment.getModifiedAt() : commentCreatedAt));
+                    }
+                }
+            }
+
+            long rejectedRecords = rejected;
+            inTransaction(session, () -> {
+                // 같은 테이블의 INSERT가 이어져야 JDBC 배치로 묶이므로 테이블별로 저장합니다.
+                todos.forEach(session::insert);
+                managers.forEach(session::insert);
+                comments.forEach(session::insert);
+
+                Long firstTodoId = todos.stream().map(Todo::getId).min(Long::compare).orElse(null);
+                checkpoint.advance(batch.position(), todos.size(), rejectedRecords, firstTodoId);
+                session.update(checkpoint);
+            });
+
+            importedCounter.increment(todos.size());
+            rejectedCounter.increment(rejected);
+        }
+
+        private boolean isValid(TodoImportRecord record, Set<Long> existingUserIds) {
+            if (!existingUserIds.contains(record.getUserId())
+                    || !StringUtils.hasText(record.getTitle())
+                    || !StringUtils.hasText(record.getContents())) {
+                return false;
+            }
+            if (record.getManagerUserIds() != null && !existingUserIds.containsAll(record.getManagerUserIds())) {
+                return false;
+            }
+            if (record.getComments() != null) {
+                for (TodoImportRecord.Comment comment : record.getComments()) {
+                    if (!existingUserIds.contains(comment.getUserId()) || !StringUtils.hasText(comment.getContents())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /*
+         * 날씨가 없는 레코드는 가져오기마다 한 번만 조회한 날씨를 사용합니다.
+         */
+        private String weatherOf(TodoImportRecord record) {
+            String weather = record.getWeather();
+            if (!StringUtils.hasText(weather)) {
+                if (!defaultWeatherResolved) {
+                    defaultWeather = todoWeatherEnrichmentService.resolveWeatherForNewTodo();
+                    defaultWeatherResolved = true;
+                }
+                weather = defaultWeather;
+            }
+            if (weather == null) {
+                weatherPending = true;
+            }
+            return weather;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 검색 결과 커서입니다. 마지막으로 받은 결과의 (점수, id)와 점수를 계산한 색인 통계를 담으며, 클라이언트에는 불투명한 문자열로 전달합니다.
+ * 같은 점수가 다시 계산되도록 점수는 double 비트를 그대로 저장합니다.
+ */
+public record TodoSearchCursor(double score, long id, TodoSearchStatistics statistics) {
+
+    private static final int FIXED_LENGTH = Double.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * 이 커서 위치보다 뒤(점수가 낮거나, 점수가 같고 id가 작은)에 있는 결과인지 확인합니다.
+     */
+    public boolean isBefore(double otherScore, long otherId) {
+        return otherScore < score || (otherScore == score && otherId < id);
+    }
+
+    public String encode() {
+        List<Integer> documentFrequencies = statistics.documentFrequencies();
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_LENGTH + Integer.BYTES * documentFrequencies.size())
+                .putDouble(score)
+                .putLong(id)
+                .putInt(statistics.documentCount())
+                .putLong(statistics.totalLength())
+                .putLong(statistics.maxDocumentId())
+                .putInt(documentFrequencies.size());
+        documentFrequencies.forEach(buffer::putInt);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws InvalidRequestException 커서 형식이 올바르지 않은 경우
+     */
+    public static TodoSearchCursor decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            double score = buffer.getDouble();
+            long id = buffer.getLong();
+            int documentCount = buffer.getInt();
+            long totalLength = buffer.getLong();
+            long maxDocumentId = buffer.getLong();
+            int tokenCount = buffer.getInt();
+            if (documentCount < 1 || tokenCount < 1 || buffer.remaining() != Integer.BYTES * (long) tokenCount) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+
+            List<Integer> documentFrequencies = new ArrayList<>(tokenCount);
+            for (int i = 0; i < tokenCount; i++) {
+                documentFrequencies.add(buffer.getInt());
+            }
+            return new TodoSearchCursor(score, id, new TodoSearchStatistics(documentCount, totalLength, maxDocumentId, documentFrequencies));
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.service;
+
+/**
+ * 검색 색인에 넣을 일정의 필드입니다.
+ */
+public record TodoSearchDocument(Long id, String title, String contents) {
+}
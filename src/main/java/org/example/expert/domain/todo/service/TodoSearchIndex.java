@@ -0,0 +1,318 @@
+package org.example.expert.domain.todo.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일정 제목과 내용에 대한 역색인입니다.
+ * 토큰마다 일정 id(long[])와 출현 횟수(int[])를 id 오름차순으로 보관하고, 검색어의 모든 토큰이 포함된 일정을 BM25 점수로 정렬합니다.
+ * 일정별 길이(토큰 수)도 같은 형태의 목록으로 보관하여, 점수 계산 중에 박싱 없이 찾습니다.
+ * 제목의 토큰은 내용보다 {@value #TITLE_WEIGHT}배 가중치를 둡니다.
+ * 조회는 동시에 할 수 있고, 추가는 하나씩 처리됩니다.
+ */
+public class TodoSearchIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x54534958; // "TSIX"
+    // 2: 일정 길이를 id 오름차순으로 기록합니다. 이전 버전은 읽지 않고 전체 일정을 다시 색인합니다.
+    private static final int SNAPSHOT_VERSION = 2;
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<TodoSearchCursor> RANKING =
+            Comparator.comparingDouble(TodoSearchCursor::score).thenComparingLong(TodoSearchCursor::id);
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // 일정 id와 길이(frequencies 자리에 저장)
+    private PostingList documents = new PostingList();
+    private long totalLength;
+    private long maxDocumentId;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 일정을 색인에 추가합니다. 이미 색인된 일정이면 무시합니다.
+     */
+    public void add(TodoSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TodoTokenizer.tokenize(document.title()).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        TodoTokenizer.tokenize(document.contents()).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        long id = document.id();
+        lock.writeLock().lock();
+        try {
+            if (!documents.add(id, length)) {
+                return;
+            }
+            totalLength += length;
+            maxDocumentId = Math.max(maxDocumentId, id);
+            frequencies.forEach((token, frequency) ->
+                    postings.computeIfAbsent(token, t -> new PostingList()).add(id, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 일정을 점수 내림차순(같으면 id 내림차순)으로 반환합니다.
+     * 다음 페이지는 이전 페이지와 같은 통계로 점수를 계산하고, 첫 페이지 이후에 저장된(maxDocumentId보다 큰) 일정은 제외합니다.
+     * 따라서 페이지를 넘기는 사이에 일정이 색인되어도 결과가 중복되거나 빠지지 않습니다.
+     *
+     * @param after 이전 페이지의 마지막 결과, 첫 페이지는 null
+     * @param limit 반환할 최대 개수
+     * @throws IllegalArgumentException 커서의 통계가 검색어의 토큰 수와 맞지 않는 경우
+     */
+    public List<TodoSearchCursor> search(List<String> queryTokens, TodoSearchCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> tokens = new ArrayList<>(new LinkedHashSet<>(queryTokens));
+            if (after != null && after.statistics().documentFrequencies().size() != tokens.size()) {
+                throw new IllegalArgumentException("커서의 토큰 수가 검색어와 다릅니다.");
+            }
+
+            List<PostingList> lists = new ArrayList<>();
+            for (String token : tokens) {
+                PostingList list = postings.get(token);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            if (lists.isEmpty()) {
+                return List.of();
+            }
+
+            TodoSearchStatistics statistics = after != null ? after.statistics() : new TodoSearchStatistics(
+                    documents.size, totalLength, maxDocumentId, lists.stream().map(list -> list.size).toList());
+
+            double averageLength = (double) statistics.totalLength() / statistics.documentCount();
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = statistics.documentFrequencies().get(i);
+                idf[i] = Math.log(1 + (statistics.documentCount() - df + 0.5) / (df + 0.5));
+            }
+
+            // 탐색은 가장 짧은 목록부터 하지만, 목록 길이는 페이지 사이에 바뀔 수 있으므로 점수는 항상 검색어의 토큰 순서로 더합니다.
+            // 더하는 순서가 달라지면 double 오차로 커서의 점수와 달라질 수 있습니다.
+            Integer[] order = new Integer[lists.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> lists.get(i).size));
+            PostingList[] sorted = new PostingList[order.length];
+            int[] sortedPositionOfToken = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sorted[i] = lists.get(order[i]);
+                sortedPositionOfToken[order[i]] = i;
+            }
+
+            // 가장 짧은 목록을 기준으로 나머지 목록과 일정 길이 목록에서 같은 id를 찾습니다. 각 목록의 탐색 위치는 앞으로만 이동합니다.
+            PriorityQueue<TodoSearchCursor> top = new PriorityQueue<>(limit + 1, RANKING);
+            int[] positions = new int[sorted.length];
+            int documentPosition = 0;
+            PostingList shortest = sorted[0];
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                long id = shortest.ids[i];
+                if (id > statistics.maxDocumentId()) {
+                    break;
+                }
+                for (int j = 1; j < sorted.length; j++) {
+                    int position = sorted[j].find(id, positions[j]);
+                    if (position < 0) {
+                        positions[j] = -position - 1;
+                        continue candidates;
+                    }
+                    positions[j] = position;
+                }
+                positions[0] = i;
+                documentPosition = documents.find(id, documentPosition);
+
+                double lengthNorm = K1 * (1 - B + B * documents.frequencies[documentPosition] / averageLength);
+                double score = 0;
+                for (int t = 0; t < idf.length; t++) {
+                    int j = sortedPositionOfToken[t];
+                    int frequency = sorted[j].frequencies[positions[j]];
+                    score += idf[t] * frequency * (K1 + 1) / (frequency + lengthNorm);
+                }
+
+                if (after != null && !after.isBefore(score, id)) {
+                    continue;
+                }
+                top.offer(new TodoSearchCursor(score, id, statistics));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<TodoSearchCursor> hits = new ArrayList<>(top);
+            hits.sort(RANKING.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 일정 중 가장 큰 id를 반환합니다. 색인이 비어있으면 0입니다.
+     */
+    public long maxDocumentId() {
+        lock.readLock().lock();
+        try {
+            return maxDocumentId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체를 스냅샷으로 기록합니다.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(maxDocumentId);
+
+            writePostingList(out, documents);
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                writePostingList(out, entry.getValue());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@link #writeTo}로 기록한 스냅샷을 읽습니다.
+     *
+     * @throws IOException 형식이나 버전이 다른 경우
+     */
+    public static TodoSearchIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("일정 검색 색인 스냅샷 형식이 올바르지 않습니다.");
+        }
+
+        TodoSearchIndex index = new TodoSearchIndex();
+        index.maxDocumentId = in.readLong();
+
+        index.documents = readPostingList(in);
+        for (int i = 0; i < index.documents.size; i++) {
+            index.totalLength += index.documents.frequencies[i];
+        }
+
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            String token = in.readUTF();
+            index.postings.put(token, readPostingList(in));
+        }
+        return index;
+    }
+
+    private static void writePostingList(DataOutputStream out, PostingList list) throws IOException {
+        out.writeInt(list.size);
+        for (int i = 0; i < list.size; i++) {
+            out.writeLong(list.ids[i]);
+            out.writeInt(list.frequencies[i]);
+        }
+    }
+
+    private static PostingList readPostingList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        PostingList list = new PostingList(size);
+        for (int i = 0; i < size; i++) {
+            list.ids[i] = in.readLong();
+            list.frequencies[i] = in.readInt();
+        }
+        list.size = size;
+        return list;
+    }
+
+    /*
+     * 한 토큰의 일정 id와 출현 횟수 목록입니다. id 오름차순을 유지합니다.
+     * 일정 길이 목록도 같은 형태로, 출현 횟수 자리에 길이를 저장합니다.
+     */
+    private static final class PostingList {
+
+        private long[] ids;
+        private int[] frequencies;
+        private int size;
+
+        private PostingList() {
+            this(4);
+        }
+
+        private PostingList(int capacity) {
+            this.ids = new long[Math.max(capacity, 1)];
+            this.frequencies = new int[Math.max(capacity, 1)];
+        }
+
+        /*
+         * 일정은 대부분 id 순서로 들어오므로 끝에 붙이고, 커밋 순서가 뒤바뀐 경우에만 중간에 끼워넣습니다.
+         * 이미 있는 id면 추가하지 않고 false를 반환합니다.
+         */
+        private boolean add(long id, int frequency) {
+            int position = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0 && position < size) {
+                return false;
+            }
+            if (position < 0) {
+                position = -position - 1;
+            }
+
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+            ids[position] = id;
+            frequencies[position] = frequency;
+            size++;
+            return true;
+        }
+
+        /*
+         * from 이후에서 id를 찾습니다. 없으면 (-(삽입 위치) - 1)을 반환합니다.
+         */
+        private int find(long id, int from) {
+            return Arrays.binarySearch(ids, from, size, id);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoBulkSavedEvent;
+import org.example.expert.domain.todo.event.TodoImportedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 제목과 내용을 검색하는 클래스입니다.
+ * 애플리케이션 안의 역색인({@link TodoSearchIndex})으로 검색하므로 LIKE '%검색어%'처럼 테이블 전체를 읽지 않습니다.
+ * 저장된 일정은 커밋 후 대기열에 넣었다가 주기적으로 모아서 색인하고, 색인은 주기적으로 디스크에 스냅샷으로 남깁니다.
+ * 시작 시 스냅샷이 있으면 그 이후에 저장된 일정만 추가로 색인합니다.
+ */
+@Slf4j(topic = "TodoSearchService")
+@Service
+public class TodoSearchService {
+
+    private static final long NO_CATCH_UP = Long.MAX_VALUE;
+
+    private final TodoRepository todoRepository;
+    private final Path snapshotPath;
+    private final int batchSize;
+
+    private volatile TodoSearchIndex index = new TodoSearchIndex();
+    private volatile boolean ready;
+    private final BlockingQueue<Long> pendingTodoIds = new LinkedBlockingQueue<>();
+    // 가져온 일정을 색인하기 위해 이 id 다음부터 다시 읽습니다. 없으면 NO_CATCH_UP입니다.
+    private final AtomicLong catchUpAfterId = new AtomicLong(NO_CATCH_UP);
+
+    public TodoSearchService(
+            TodoRepository todoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${todo.search.snapshot-path:}") String snapshotPath,
+            @Value("${todo.search.batch-size:500}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.batchSize = batchSize;
+
+        meterRegistry.gauge("todo.search.documents", this, service -> service.index.documentCount());
+        meterRegistry.gauge("todo.search.terms", this, service -> service.index.termCount());
+        meterRegistry.gauge("todo.search.queue.size", pendingTodoIds, BlockingQueue::size);
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 일정을 관련도 순으로 조회합니다.
+     *
+     * @param query 검색어
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @throws InvalidRequestException 검색어가 없거나 size가 1보다 작은 경우, 커서가 다른 검색어의 것인 경우
+     * @throws ServiceUnavailableException 시작 직후 색인을 준비하는 중인 경우
+     */
+    public TodoCursorResponse search(String query, String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size는 1 이상이어야 합니다.");
+        }
+        List<String> tokens = TodoTokenizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (!ready) {
+            throw new ServiceUnavailableException("검색 색인을 준비하고 있습니다.", 1);
+        }
+
+        TodoSearchCursor after = cursor == null || cursor.isBlank() ? null : TodoSearchCursor.decode(cursor);
+        // 커서에는 첫 페이지의 검색어 토큰별 통계가 담겨 있으므로, 토큰 수가 다르면 다른 검색어의 커서입니다.
+        if (after != null && after.statistics().documentFrequencies().size() != new LinkedHashSet<>(tokens).size()) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회합니다.
+        List<TodoSearchCursor> hits = index.search(tokens, after, size + 1);
+        boolean hasNext = hits.size() > size;
+        List<TodoSearchCursor> page = hasNext ? hits.subList(0, size) : hits;
+        if (page.isEmpty()) {
+            return new TodoCursorResponse(List.of(), null, false);
+        }
+
+        Map<Long, TodoResponse> todos = todoRepository.findResponsesByIdIn(page.stream().map(TodoSearchCursor::id).toList())
+                .stream()
+                .collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+        List<TodoResponse> content = page.stream()
+                .map(hit -> todos.get(hit.id()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = hasNext ? page.get(page.size() - 1).encode() : null;
+        return new TodoCursorResponse(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 일정 저장 트랜잭션이 커밋된 후, 색인할 일정을 대기열에 넣습니다.
+     */
+    @TransactionalEventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        pendingTodoIds.add(event.getTodoId());
+    }
+
+    /**
+     * 일괄 저장 트랜잭션이 커밋된 후, 저장된 일정들을 대기열에 넣습니다.
+     */
+    @TransactionalEventListener
+    public void onTodoBulkSaved(TodoBulkSavedEvent event) {
+        pendingTodoIds.addAll(event.getTodoIds());
+    }
+
+    /**
+     * 가져오기가 끝나면 가져온 일정 중 가장 작은 id부터 다시 읽어 색인하도록 표시합니다.
+     * 가져온 일정은 수백만 건일 수 있으므로 가져오기 요청에서 색인하지 않고, 주기적인 색인 작업에서 처리합니다.
+     */
+    @EventListener
+    public void onTodosImported(TodoImportedEvent event) {
+        if (event.getFirstTodoId() != null) {
+            catchUpAfterId.accumulateAndGet(event.getFirstTodoId() - 1, Math::min);
+        }
+    }
+
+    /**
+     * 스냅샷을 읽고 이후에 저장된 일정을 추가로 색인합니다.
+     * 스냅샷이 없거나 DB와 맞지 않으면(DB가 새로 만들어진 경우 등) 전체 일정을 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        TodoSearchIndex loaded = readSnapshot();
+        if (loaded != null && todoRepository.countByIdLessThanEqual(loaded.maxDocumentId()) != loaded.documentCount()) {
+            log.info("일정 검색 색인 스냅샷이 DB와 맞지 않아 전체 일정을 다시 색인합니다.");
+            loaded = null;
+        }
+
+        TodoSearchIndex initialized = loaded != null ? loaded : new TodoSearchIndex();
+        int added = indexAfter(initialized, initialized.maxDocumentId());
+        log.info("일정 검색 색인을 준비했습니다. 스냅샷: {}, 추가 색인: {}건, 전체: {}건",
+                loaded != null, added, initialized.documentCount());
+
+        index = initialized;
+        ready = true;
+    }
+
+    /**
+     * 대기열의 일정들을 batchSize 단위로 조회하여 색인합니다.
+     * 조회에 실패하면 대기열에 그대로 남겨 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.search.flush-interval:500}")
+    public void flushPendingTodos() {
+        if (!ready) return;
+
+        long afterId = catchUpAfterId.getAndSet(NO_CATCH_UP);
+        if (afterId != NO_CATCH_UP) {
+            try {
+                // 이미 색인된 일정은 무시되므로, 중간의 일반 일정을 다시 읽어도 문제없습니다.
+                int added = indexAfter(index, afterId);
+                log.info("가져온 일정 {}건을 색인했습니다.", added);
+            } catch (DataAccessException e) {
+                log.warn("가져온 일정 색인에 실패하여 다음 주기에 다시 시도합니다: {}", e.getMessage());
+                catchUpAfterId.accumulateAndGet(afterId, Math::min);
+                return;
+            }
+        }
+
+        if (pendingTodoIds.isEmpty()) return;
+
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (pendingTodoIds.drainTo(batch, batchSize) > 0) {
+            try {
+                todoRepository.findSearchDocumentsByIdIn(batch).forEach(index::add);
+            } catch (DataAccessException e) {
+                log.warn("일정 색인에 실패하여 다음 주기에 다시 시도합니다: {}", e.getMessage());
+                pendingTodoIds.addAll(batch);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 색인을 스냅샷 파일로 저장합니다. 임시 파일에 쓴 뒤 교체하므로 저장 중에 종료되어도 이전 스냅샷은 남습니다.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${todo.search.snapshot-interval:600000}",
+            initialDelayString = "${todo.search.snapshot-interval:600000}")
+    public void writeSnapshot() {
+        if (snapshotPath == null || !ready) return;
+
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, snapshotPath.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                index.writeTo(out);
+            }
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("일정 검색 색인 스냅샷을 저장하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private TodoSearchIndex readSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            return TodoSearchIndex.readFrom(in);
+        } catch (IOException e) {
+            log.warn("일정 검색 색인 스냅샷을 읽지 못해 전체 일정을 다시 색인합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /*
+     * afterId보다 id가 큰 일정을 id 순서로 batchSize씩 읽어 색인합니다.
+     */
+    private int indexAfter(TodoSearchIndex target, long afterId) {
+        int added = 0;
+        List<TodoSearchDocument> documents;
+        do {
+            documents = todoRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, batchSize));
+            for (TodoSearchDocument document : documents) {
+                target.add(document);
+                afterId = document.id();
+            }
+            added += documents.size();
+        } while (documents.size() == batchSize);
+        return added;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.List;
+
+/**
+ * 검색 점수(BM25)를 계산할 때 사용한 색인 통계입니다.
+ * 첫 페이지를 조회한 시점의 값을 커서에 담아 다음 페이지에서도 그대로 사용하므로, 그 사이에 일정이 색인되어도 이미 받은 결과의 점수가 바뀌지 않습니다.
+ *
+ * @param documentCount 색인된 일정 수
+ * @param totalLength 색인된 일정의 토큰 수 합계
+ * @param maxDocumentId 검색 대상인 가장 큰 일정 id, 이후에 저장된 일정은 다음 페이지에 나오지 않습니다.
+ * @param documentFrequencies 검색어의 토큰(중복 제외, 입력 순서)마다 그 토큰을 포함하는 일정 수
+ */
+public record TodoSearchStatistics(
+        int documentCount,
+        long totalLength,
+        long maxDocumentId,
+        List<Integer> documentFrequencies
+) {
+
+    public TodoSearchStatistics {
+        documentFrequencies = List.copyOf(documentFrequencies);
+    }
+}
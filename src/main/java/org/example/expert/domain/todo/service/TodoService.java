@@ -1,35 +1,58 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoBulkSavedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 기간 조건이 없을 때 사용하는 범위입니다. (MySQL DATETIME 범위)
+    private static final LocalDateTime MIN_MODIFIED_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_MODIFIED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    // 일괄 저장 시 영속성 컨텍스트를 비우는 단위입니다. (hibernate.jdbc.batch_size와 맞춥니다.)
+    private static final int BULK_FLUSH_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final TodoWeatherEnrichmentService todoWeatherEnrichmentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoCountCache todoCountCache;
+    private final EntityManager entityManager;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = todoWeatherEnrichmentService.resolveWeatherForNewTodo();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +61,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(new TodoSavedEvent(savedTodo.getId(), savedTodo.isWeatherPending()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,20 +72,127 @@ public class TodoService {
         );
     }
 
+    /**
+     * 여러 일정을 한 트랜잭션에서 저장합니다.
+     * 날씨는 요청마다 한 번만 조회하고, 일정과 담당자 INSERT는 JDBC 배치로 묶어서 보냅니다.
+     * {@link #BULK_FLUSH_SIZE}건마다 flush 후 영속성 컨텍스트를 비워 요청 크기와 관계없이 메모리 사용량을 일정하게 유지합니다.
+     */
+    @Transactional
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = todoWeatherEnrichmentService.resolveWeatherForNewTodo();
+
+        List<TodoSaveRequest> requests = todoBulkSaveRequest.getTodos();
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (TodoSaveRequest request : requests) {
+            Todo newTodo = new Todo(request.getTitle(), request.getContents(), weather, user);
+            entityManager.persist(newTodo);
+            ids.add(newTodo.getId());
+
+            if (ids.size() % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        eventPublisher.publishEvent(new TodoBulkSavedEvent(ids, weather == null));
+
+        return new TodoBulkSaveResponse(ids, weather);
+    }
+
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findResponsesByOrderByModifiedAtDesc(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    /**
+     * 날씨와 수정일 기간으로 일정 목록을 조회합니다.
+     * 조건마다 (weather, modified_at, id) 또는 (modified_at, id) 인덱스의 범위만 정렬 순서대로 읽습니다.
+     *
+     * @param weather 날씨, null이면 모든 날씨
+     * @param modifiedFrom 수정일 시작(포함), null이면 제한 없음
+     * @param modifiedTo 수정일 끝(포함), null이면 제한 없음
+     * @throws InvalidRequestException modifiedFrom이 modifiedTo보다 늦은 경우
+     */
+    public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDateTime modifiedFrom, LocalDateTime modifiedTo) {
+        LocalDateTime from = modifiedFrom != null ? modifiedFrom : MIN_MODIFIED_AT;
+        LocalDateTime to = modifiedTo != null ? modifiedTo : MAX_MODIFIED_AT;
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("modifiedFrom은 modifiedTo보다 늦을 수 없습니다.");
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        if (weather == null || weather.isBlank()) {
+            return todoRepository.findResponsesByModifiedAtBetween(from, to, pageable);
+        }
+        return todoRepository.findResponsesByWeatherAndModifiedAtBetween(weather, from, to, pageable);
+    }
+
+    /**
+     * 전체 개수를 COUNT(*) 대신 {@link TodoCountCache}의 근사값으로 채워 일정 목록을 조회합니다.
+     * 첫 페이지가 마지막 페이지인 경우처럼 조회 결과로 개수를 알 수 있으면 근사값을 사용하지 않습니다.
+     */
+    public Page<TodoResponse> getTodosWithApproximateTotal(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<TodoResponse> todos = todoRepository.findResponseSliceByOrderByModifiedAtDesc(pageable);
+
+        return PageableExecutionUtils.getPage(todos.getContent(), pageable, todoCountCache::get);
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지 여부만 포함하여 일정 목록을 조회합니다. COUNT 쿼리를 실행하지 않습니다.
+     */
+    public TodoSliceResponse getTodoSlice(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<TodoResponse> todos = todoRepository.findResponseSliceByOrderByModifiedAtDesc(pageable);
+
+        return new TodoSliceResponse(
+                todos.getContent(),
+                page,
+                size,
+                todos.hasNext()
+        );
+    }
+
+    /**
+     * 커서 기반으로 일정 목록을 수정일 내림차순으로 조회합니다.
+     * OFFSET 없이 (modified_at, id) 인덱스에서 커서 위치부터 읽으므로, 몇 번째 페이지든 조회 비용이 같습니다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size는 1 이상이어야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회합니다.
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstPage(limit);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findNextPage(todoCursor.modifiedAt(), todoCursor.id(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(content, nextCursor, hasNext);
     }
 
     public TodoResponse getTodo(long todoId) {
@@ -80,4 +211,12 @@ public class TodoService {
                 todo.getModifiedAt()
         );
     }
+
+    /**
+     * 일정의 ETag를 만들 값만 조회합니다. 조건부 요청에서 본문을 만들지 않고 변경 여부를 판단할 때 사용합니다.
+     */
+    public TodoVersion getTodoVersion(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 }
@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 검색에 사용하는 토크나이저입니다.
+ * 영문과 숫자는 공백이나 기호로 나눈 단어를 소문자로 바꿔 사용하고,
+ * 한글(한자, 가나 포함)은 형태소 분석 없이 붙어 있는 글자를 두 글자씩(bigram) 잘라 사용합니다.
+ * 예) "회의록 정리 Meeting" → [회의, 의록, 정리, meeting]
+ * 조사가 붙어도("회의를") 같은 bigram("회의")이 만들어지므로, 형태소 분석기 없이도 부분 일치로 찾을 수 있습니다.
+ */
+public final class TodoTokenizer {
+
+    private static final int MAX_WORD_LENGTH = 40;
+
+    private TodoTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int[] run = new int[text.length()];
+        int runLength = 0;
+        boolean bigramRun = false;
+
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = Character.toLowerCase(text.codePointAt(i));
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                emit(tokens, run, runLength, bigramRun);
+                runLength = 0;
+                continue;
+            }
+
+            boolean bigram = isBigramScript(codePoint);
+            if (runLength > 0 && bigram != bigramRun) {
+                emit(tokens, run, runLength, bigramRun);
+                runLength = 0;
+            }
+            bigramRun = bigram;
+            run[runLength++] = codePoint;
+        }
+        emit(tokens, run, runLength, bigramRun);
+        return tokens;
+    }
+
+    private static void emit(List<String> tokens, int[] run, int runLength, boolean bigramRun) {
+        if (runLength == 0) return;
+
+        if (!bigramRun) {
+            tokens.add(new String(run, 0, Math.min(runLength, MAX_WORD_LENGTH)));
+        } else if (runLength == 1) {
+            tokens.add(new String(run, 0, 1));
+        } else {
+            for (int i = 0; i + 1 < runLength; i++) {
+                tokens.add(new String(run, i, 2));
+            }
+        }
+    }
+
+    private static boolean isBigramScript(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
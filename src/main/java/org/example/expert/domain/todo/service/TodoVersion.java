@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 일정 단건 응답의 ETag를 만드는 값입니다.
+ * 날씨 채우기는 수정 시각을 바꾸지 않으므로, 수정 시각과 함께 날씨가 채워졌는지를 포함합니다.
+ */
+public record TodoVersion(LocalDateTime modifiedAt, boolean weatherPending) {
+
+    private static final String WEATHER_PENDING_SUFFIX = "-p";
+
+    public static TodoVersion of(TodoResponse todo) {
+        return new TodoVersion(todo.getModifiedAt(), todo.getWeather() == null);
+    }
+
+    /**
+     * 수정 시각을 DB에 저장되는 마이크로초 단위의 epoch 값(16진수)으로 바꾸고, 날씨를 기다리는 중이면 접미사를 붙입니다.
+     */
+    public String etag() {
+        Instant instant = modifiedAt.toInstant(ZoneOffset.UTC);
+        long micros = instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+        String etag = Long.toHexString(micros);
+        return weatherPending ? etag + WEATHER_PENDING_SUFFIX : etag;
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.event.TodoBulkSavedEvent;
+import org.example.expert.domain.todo.event.TodoImportedEvent;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 일정의 날씨를 채우는 클래스입니다.
+ * sync 모드에서는 저장 시점에 날씨를 조회하고,
+ * async 모드에서는 일정을 날씨 없이(null) 먼저 저장한 뒤 백그라운드에서 모아서 UPDATE 합니다.
+ * async 모드의 대기열 크기와 지연 시간은 Micrometer 지표로 확인할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class TodoWeatherEnrichmentService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherProvider weatherProvider;
+    private final TodoFeedCache todoFeedCache;
+    private final boolean asyncMode;
+    private final int batchSize;
+
+    private final BlockingQueue<PendingTodo> pendingQueue = new LinkedBlockingQueue<>();
+    // 대기열에 들어있는 일정 id입니다. 같은 일정이 여러 번 들어가지 않게 하여, 대기열 크기가 날씨가 비어있는 일정 수를 넘지 않습니다.
+    private final Set<Long> queuedTodoIds = ConcurrentHashMap.newKeySet();
+    private final Counter enrichedCounter;
+
+    public TodoWeatherEnrichmentService(
+            TodoRepository todoRepository,
+            WeatherProvider weatherProvider,
+            TodoFeedCache todoFeedCache,
+            MeterRegistry meterRegistry,
+            @Value("${weather.enrichment.mode:sync}") String mode,
+            @Value("${weather.enrichment.batch-size:500}") int batchSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherProvider = weatherProvider;
+        this.todoFeedCache = todoFeedCache;
+        this.asyncMode = "async".equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+
+        this.enrichedCounter = meterRegistry.counter("weather.enrichment.updated");
+        meterRegistry.gauge("weather.enrichment.queue.size", pendingQueue, BlockingQueue::size);
+        meterRegistry.gauge("weather.enrichment.lag.ms", pendingQueue, this::currentLagMillis);
+    }
+
+    /**
+     * 새 일정에 저장할 날씨 값을 반환합니다.
+     * async 모드라면 외부 API를 호출하지 않고 null을 반환합니다.
+     * sync 모드에서 날씨 조회에 실패하면 일정 저장을 실패시키지 않고 날씨 없이 저장하여 나중에 채웁니다.
+     *
+     * @return 오늘의 날씨, 나중에 채워야 하면 null
+     */
+    public String resolveWeatherForNewTodo() {
+        if (asyncMode) {
+            return null;
+        }
+        try {
+            return weatherProvider.getTodayWeather();
+        } catch (ServerException | RestClientException e) {
+            log.warn("날씨를 조회하지 못해 날씨 없이 저장합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 일정 저장 트랜잭션이 커밋된 후, 날씨가 비어있는 일정을 대기열에 넣습니다.
+     */
+    @TransactionalEventListener
+    public void onTodoSaved(TodoSavedEvent event) {
+        if (event.isWeatherPending()) {
+            enqueue(event.getTodoId(), System.nanoTime());
+        }
+    }
+
+    /**
+     * 일괄 저장 트랜잭션이 커밋된 후, 날씨가 비어있으면 저장된 일정들을 대기열에 넣습니다.
+     */
+    @TransactionalEventListener
+    public void onTodoBulkSaved(TodoBulkSavedEvent event) {
+        if (event.isWeatherPending()) {
+            long now = System.nanoTime();
+            event.getTodoIds().forEach(todoId -> enqueue(todoId, now));
+        }
+    }
+
+    /**
+     * 가져온 일정 중 날씨가 비어있는 일정이 있으면 대기열에 넣습니다.
+     * 가져오기는 id를 따로 모아두지 않으므로 날씨가 비어있는 일정을 다시 조회합니다. 이미 대기열에 있는 일정은 다시 넣지 않습니다.
+     */
+    @EventListener
+    public void onTodosImported(TodoImportedEvent event) {
+        if (event.isWeatherPending()) {
+            recoverPendingTodos();
+        }
+    }
+
+    /**
+     * 재시작 전에 처리되지 못한, 날씨가 비어있는 일정을 다시 대기열에 넣습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingTodos() {
+        List<Long> pendingTodoIds = todoRepository.findIdsByWeatherIsNull();
+        long now = System.nanoTime();
+        pendingTodoIds.forEach(todoId -> enqueue(todoId, now));
+        if (!pendingTodoIds.isEmpty()) {
+            log.info("날씨가 채워지지 않은 일정 {}건을 대기열에 추가했습니다.", pendingTodoIds.size());
+        }
+    }
+
+    /**
+     * 대기열의 일정들을 batchSize 단위로 묶어 날씨를 UPDATE 합니다.
+     * 날씨 조회나 UPDATE에 실패하면 대기열에 그대로 남겨 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${weather.enrichment.flush-interval:500}")
+    public void flushPendingWeather() {
+        if (pendingQueue.isEmpty()) return;
+
+        String weather;
+        try {
+            weather = weatherProvider.getTodayWeather();
+        } catch (ServerException | RestClientException e) {
+            log.warn("날씨를 조회하지 못해 다음 주기에 다시 시도합니다: {}", e.getMessage());
+            return;
+        }
+
+        List<PendingTodo> batch = new ArrayList<>(batchSize);
+        while (pendingQueue.drainTo(batch, batchSize) > 0) {
+            List<Long> todoIds = batch.stream().map(PendingTodo::todoId).toList();
+            // UPDATE 전에 빼두어야, 그 사이 다시 들어온 일정이 누락되지 않습니다. (이미 채워졌다면 UPDATE 조건에서 걸러집니다.)
+            todoIds.forEach(queuedTodoIds::remove);
+            try {
+                int updated = todoRepository.fillPendingWeather(todoIds, weather);
+                enrichedCounter.increment(updated);
+                if (updated > 0) {
+                    todoFeedCache.invalidate();
+                }
+            } catch (DataAccessException e) {
+                log.warn("일정 날씨 UPDATE에 실패하여 다음 주기에 다시 시도합니다: {}", e.getMessage());
+                batch.forEach(pending -> enqueue(pending.todoId(), pending.enqueuedAt()));
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void enqueue(Long todoId, long enqueuedAt) {
+        if (queuedTodoIds.add(todoId)) {
+            pendingQueue.add(new PendingTodo(todoId, enqueuedAt));
+        }
+    }
+
+    /*
+     * 대기열에서 가장 오래 기다린 일정의 대기 시간(ms)을 반환합니다.
+     */
+    private double currentLagMillis(BlockingQueue<PendingTodo> queue) {
+        PendingTodo oldest = queue.peek();
+        if (oldest == null) return 0;
+        return (System.nanoTime() - oldest.enqueuedAt()) / 1_000_000.0;
+    }
+
+    private record PendingTodo(Long todoId, long enqueuedAt) {
+    }
+}
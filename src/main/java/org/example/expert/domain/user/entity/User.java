@@ -10,12 +10,16 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
 public class User extends Timestamped {
 
+    // 가입 시 제약 위반이 이메일 중복 때문인지 구분할 수 있도록 이름을 지정합니다.
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
@@ -37,6 +41,13 @@ public class User extends Timestamped {
         return new User(authUser.getId(), authUser.getEmail(), authUser.getUserRole());
     }
 
+    /**
+     * 존재가 확인된 유저를 연관관계로 참조할 때 사용합니다. id 외의 값은 채워지지 않습니다.
+     */
+    public static User reference(Long id) {
+        return new User(id, null, null);
+    }
+
     public void changePassword(String password) {
         this.password = password;
     }
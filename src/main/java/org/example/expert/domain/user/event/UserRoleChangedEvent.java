@@ -0,0 +1,13 @@
+package org.example.expert.domain.user.event;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleChangedEvent {
+
+    private final Long userId;
+
+    public UserRoleChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+}
@@ -2,10 +2,38 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.email FROM User u WHERE u.id > :fromId AND u.id <= :toId")
+    List<String> findEmailsByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 비밀번호 검증은 트랜잭션 밖에서 하므로, 검증한 해시가 그대로인 경우에만 바꿉니다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword, u.modifiedAt = :modifiedAt " +
+            "WHERE u.id = :userId AND u.password = :currentPassword")
+    int changePassword(
+            @Param("userId") long userId,
+            @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
 }
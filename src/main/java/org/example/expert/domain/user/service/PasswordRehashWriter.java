@@ -0,0 +1,122 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인에 성공한 유저의 비밀번호를 현재 BCrypt 비용으로 다시 해시하여 저장하는 클래스입니다.
+ * 새 해시는 로그인 시점에 해시 풀에서 계산하고, 저장은 주기적으로 모아서 한 번의 JDBC batch로 실행합니다.
+ * 대기열에는 (userId, 기존 해시, 새 해시)만 넣으며 비밀번호 원문은 넣지 않습니다.
+ * 저장할 때는 기존 해시가 그대로인 경우에만 바꾸므로, 그사이 비밀번호가 변경되었다면 덮어쓰지 않습니다.
+ */
+@Slf4j(topic = "PasswordRehashWriter")
+@Component
+public class PasswordRehashWriter {
+
+    private static final String UPDATE_PASSWORD_SQL =
+            "UPDATE users SET password = ?, modified_at = ? WHERE id = ? AND password = ?";
+
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxQueueSize;
+
+    private final Queue<EncodedRehash> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final Counter updatedCounter;
+    private final Counter skippedCounter;
+
+    public PasswordRehashWriter(
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${password.rehash.batch-size:100}") int batchSize,
+            @Value("${password.rehash.max-queue-size:10000}") int maxQueueSize
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.updatedCounter = meterRegistry.counter("password.rehash", "result", "updated");
+        this.skippedCounter = meterRegistry.counter("password.rehash", "result", "skipped");
+        meterRegistry.gauge("password.rehash.queue.size", queueSize);
+    }
+
+    /**
+     * 새 비용으로 해시를 계산하여 저장 대기열에 넣습니다. 트랜잭션 밖에서 호출해야 합니다.
+     * 해시 풀이 포화되었거나 대기열이 가득 찼다면 건너뛰고 다음 로그인 때 다시 시도합니다.
+     */
+    public void rehash(Long userId, String rawPassword, String currentHash) {
+        if (queueSize.get() >= maxQueueSize) {
+            skippedCounter.increment();
+            return;
+        }
+
+        String newHash;
+        try {
+            newHash = passwordEncoder.encode(rawPassword);
+        } catch (ServiceUnavailableException e) {
+            skippedCounter.increment();
+            return;
+        }
+        queue.add(new EncodedRehash(userId, currentHash, newHash));
+        queueSize.incrementAndGet();
+    }
+
+    /**
+     * 대기열의 해시를 batch-size 단위로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${password.rehash.flush-interval:1000}")
+    public void flush() {
+        while (!queue.isEmpty()) {
+            List<EncodedRehash> batch = drain();
+            Timestamp modifiedAt = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                int[][] results = jdbcTemplate.batchUpdate(UPDATE_PASSWORD_SQL, batch, batch.size(), (ps, rehash) -> {
+                    ps.setString(1, rehash.newHash());
+                    ps.setTimestamp(2, modifiedAt);
+                    ps.setLong(3, rehash.userId());
+                    ps.setString(4, rehash.currentHash());
+                });
+                for (int[] batchResults : results) {
+                    for (int result : batchResults) {
+                        if (result != 0) updatedCounter.increment();
+                    }
+                }
+            } catch (DataAccessException e) {
+                // 저장하지 못한 유저는 다음 로그인 때 다시 해시합니다.
+                log.warn("비밀번호 재해시 저장 실패 ({}건): {}", batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private List<EncodedRehash> drain() {
+        List<EncodedRehash> batch = new ArrayList<>(batchSize);
+        EncodedRehash rehash;
+        while (batch.size() < batchSize && (rehash = queue.poll()) != null) {
+            batch.add(rehash);
+            queueSize.decrementAndGet();
+        }
+        return batch;
+    }
+
+    private record EncodedRehash(Long userId, String currentHash, String newHash) {
+    }
+}
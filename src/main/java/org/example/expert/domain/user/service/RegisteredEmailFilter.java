@@ -0,0 +1,82 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.util.BloomFilter;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 이메일의 Bloom filter입니다.
+ * mightContain이 false이면 가입되지 않은 이메일이므로, 회원가입은 중복 확인 쿼리 없이 바로 저장합니다.
+ * true이면 중복일 가능성이 높으므로 DB에서 확인합니다. 최종 판단은 항상 users.email의 unique 제약이 합니다.
+ */
+@Slf4j(topic = "RegisteredEmailFilter")
+@Component
+public class RegisteredEmailFilter {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile long capacity;
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            @Value("${user.email-filter.expected-insertions:1000000}") long minExpectedInsertions,
+            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.capacity = minExpectedInsertions;
+        this.filter = new BloomFilter(minExpectedInsertions, falsePositiveRate);
+    }
+
+    public boolean mightContain(String email) {
+        return filter.mightContain(email);
+    }
+
+    public void put(String email) {
+        filter.put(email);
+    }
+
+    /**
+     * 가입된 이메일을 id 구간 단위로 읽어 filter를 만듭니다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        long maxId = userRepository.findMaxId();
+        long expected = Math.max(minExpectedInsertions, maxId * 2);
+        BloomFilter next = new BloomFilter(expected, falsePositiveRate);
+
+        for (long fromId = 0; fromId < maxId; fromId += LOAD_CHUNK_SIZE) {
+            userRepository.findEmailsByIdRange(fromId, fromId + LOAD_CHUNK_SIZE).forEach(next::put);
+        }
+
+        // 재생성 중에 가입한 이메일도 새 filter에 포함되도록, 교체 직전 이후 가입분을 한 번 더 읽습니다.
+        long latestId = userRepository.findMaxId();
+        if (latestId > maxId) {
+            userRepository.findEmailsByIdRange(maxId, latestId).forEach(next::put);
+        }
+        filter = next;
+        capacity = expected;
+        log.info("가입 이메일 Bloom filter 생성: {}건, {}bits", next.getInsertions(), next.getBitSize());
+    }
+
+    /**
+     * 가입자가 filter 크기를 넘어서면 오탐률이 올라가므로 더 크게 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${user.email-filter.resize-check-interval:3600000}",
+            initialDelayString = "${user.email-filter.resize-check-interval:3600000}")
+    public void resizeIfNeeded() {
+        if (filter.getInsertions() > capacity) {
+            rebuild();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 존재가 확인된 유저 id를 기억하는 캐시입니다.
+ * 대량 저장 시 행마다 findById를 호출하지 않고, 캐시에 없는 id만 모아서 한 번의 IN 쿼리로 확인합니다.
+ * 유저는 삭제되지 않으므로 한 번 확인된 id는 무효화하지 않습니다. 없는 id는 나중에 가입될 수 있으므로 저장하지 않습니다.
+ */
+@Component
+public class UserReferenceCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final Set<Long> existingUserIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserReferenceCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.reference-cache.max-size:1000000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("user.reference.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.reference.cache.requests", "result", "miss");
+        meterRegistry.gauge("user.reference.cache.size", existingUserIds, Set::size);
+    }
+
+    /**
+     * userIds 중 존재하는 유저 id를 반환합니다. 캐시에 없는 id는 한 번의 쿼리로 확인합니다.
+     */
+    public Set<Long> findExisting(Collection<Long> userIds) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long userId : new HashSet<>(userIds)) {
+            if (userId == null) continue;
+            if (existingUserIds.contains(userId)) {
+                existing.add(userId);
+            } else {
+                unknown.add(userId);
+            }
+        }
+        hitCounter.increment(existing.size());
+        missCounter.increment(unknown.size());
+        if (unknown.isEmpty()) {
+            return existing;
+        }
+
+        List<Long> found = userRepository.findIdsByIdIn(unknown);
+        existing.addAll(found);
+        // 가득 차면 더 저장하지 않습니다. 이후의 id는 매번 조회하지만 여전히 묶음 단위입니다.
+        if (existingUserIds.size() + found.size() <= maxSize) {
+            existingUserIds.addAll(found);
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserRoleChangedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 어드민 API 권한 확인에 사용하는 userId → UserRole 캐시입니다.
+ * 권한이 변경되면 {@link UserRoleChangedEvent}를 받아 커밋 직후 해당 항목을 제거하므로, 회수된 권한은 바로 적용됩니다.
+ * DB 조회는 맵의 잠금 밖에서 하고, 조회하는 동안 무효화가 있었다면 읽은 권한을 저장하지 않습니다.
+ */
+@Component
+public class UserRoleCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final Map<Long, UserRole> roles = new ConcurrentHashMap<>();
+    // 무효화될 때마다 올립니다. 조회 전후로 값이 다르면 그 사이에 권한이 바뀌었을 수 있습니다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserRoleCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.role-cache.max-size:100000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("user.role.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.role.cache.requests", "result", "miss");
+        meterRegistry.gauge("user.role.cache.size", roles, Map::size);
+    }
+
+    /**
+     * 유저의 권한을 반환합니다. 캐시에 없으면 DB에서 조회하여 저장합니다.
+     *
+     * @throws InvalidRequestException 유저가 존재하지 않는 경우
+     */
+    public UserRole getUserRole(Long userId) {
+        UserRole cached = roles.get(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        long observedInvalidations = invalidations.get();
+        UserRole userRole = loadUserRole(userId);
+        if (roles.size() < maxSize) {
+            roles.put(userId, userRole);
+            // 무효화는 카운터를 먼저 올린 뒤 항목을 지우므로, 여기서 값이 같다면 이후의 무효화가 저장한 항목을 지웁니다.
+            if (invalidations.get() != observedInvalidations) {
+                roles.remove(userId, userRole);
+            }
+        }
+        return userRole;
+    }
+
+    /**
+     * 권한 변경이 커밋되면 해당 유저의 항목을 제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        invalidations.incrementAndGet();
+        roles.remove(event.getUserId());
+    }
+
+    private UserRole loadUserRole(Long userId) {
+        return userRepository.findById(userId)
+                .map(User::getUserRole)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+    }
+}
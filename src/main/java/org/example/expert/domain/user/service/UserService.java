@@ -10,6 +10,8 @@ import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -23,7 +25,12 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * 비밀번호를 변경합니다.
+     * 조회와 변경은 각각 짧은 트랜잭션으로 실행하고, 그 사이의 BCrypt 계산은 커넥션 없이 합니다.
+     *
+     * @throws InvalidRequestException 비밀번호가 틀렸거나, 검증하는 동안 다른 요청이 비밀번호를 바꾼 경우
+     */
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
@@ -36,6 +43,9 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+        if (userRepository.changePassword(userId, user.getPassword(), encodedPassword, LocalDateTime.now()) == 0) {
+            throw new InvalidRequestException("비밀번호가 변경되었습니다. 다시 시도해주세요.");
+        }
     }
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package org.example.expert;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 
+// 다른 통합 테스트와 같은 컨텍스트를 사용합니다. 컨텍스트가 새로 뜨면 스키마를 다시 만들면서 시퀀스가 초기화되어,
+// 먼저 뜬 컨텍스트가 미리 받아둔 id 범위와 겹치게 됩니다.
 @SpringBootTest
+@AutoConfigureMockMvc
 class ExpertApplicationTests {
 
     @Test
@@ -0,0 +1,133 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncWeatherHttpClientTest {
+
+    private static final byte[] FEED = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private URI uri;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long firstResponseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/weather.json", exchange -> {
+            if (requestCount.incrementAndGet() == 1) {
+                sleep(firstResponseDelayMillis);
+            }
+            exchange.sendResponseHeaders(200, FEED.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(FEED);
+            }
+        });
+        server.start();
+        uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/weather.json");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 날씨_피드를_비동기로_받아_캘린더로_변환한다() {
+        // given
+        AsyncWeatherHttpClient client = createClient(Duration.ofSeconds(2), Duration.ZERO);
+
+        // when
+        WeatherCalendar calendar = client.fetchCalendar(uri).join();
+
+        // then
+        assertEquals("Sunny", calendar.get(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    void 응답_기한을_넘기면_ServerException으로_실패한다() {
+        // given
+        firstResponseDelayMillis = 1_000;
+        AsyncWeatherHttpClient client = createClient(Duration.ofMillis(100), Duration.ZERO);
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class, () -> client.fetchCalendar(uri).join());
+
+        // then
+        assertInstanceOf(ServerException.class, exception.getCause());
+        assertEquals("날씨 API 응답 시간이 초과되었습니다.", exception.getCause().getMessage());
+    }
+
+    @Test
+    void 첫_요청이_느리면_헤지_요청의_응답을_사용한다() {
+        // given
+        firstResponseDelayMillis = 1_000;
+        AsyncWeatherHttpClient client = createClient(Duration.ofSeconds(2), Duration.ofMillis(50));
+
+        // when
+        long startedAt = System.nanoTime();
+        WeatherCalendar calendar = client.fetchCalendar(uri).join();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertEquals("Sunny", calendar.get(LocalDate.of(2025, 1, 1)));
+        assertEquals(2, requestCount.get());
+        assertTrue(elapsedMillis < 1_000);
+    }
+
+    @Test
+    void 헤지_요청이_먼저_성공하면_느린_첫_요청을_취소한다() {
+        // given
+        firstResponseDelayMillis = 1_000;
+        AsyncWeatherHttpClient client = createClient(Duration.ofSeconds(2), Duration.ofMillis(50));
+
+        // when
+        client.fetchCalendar(uri).join();
+
+        // then
+        // 취소는 결과를 받은 뒤 다른 스레드에서 이어질 수 있으므로, 첫 요청의 응답 지연보다 짧게 기다립니다.
+        long deadline = System.nanoTime() + Duration.ofMillis(500).toNanos();
+        while (requestTimer("cancelled").count() == 0 && System.nanoTime() < deadline) {
+            sleep(10);
+        }
+        assertEquals(1, requestTimer("success").count());
+        assertEquals(1, requestTimer("cancelled").count());
+    }
+
+    private Timer requestTimer(String outcome) {
+        return meterRegistry.timer("weather.http.requests", "client", "async", "outcome", outcome);
+    }
+
+    private AsyncWeatherHttpClient createClient(Duration requestTimeout, Duration hedgeDelay) {
+        return new AsyncWeatherHttpClient(meterRegistry, Duration.ofSeconds(1), requestTimeout, hedgeDelay);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
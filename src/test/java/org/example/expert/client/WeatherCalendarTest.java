@@ -0,0 +1,63 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCalendarTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 날짜별_날씨를_day_of_year_인덱스로_조회한다() {
+        // given
+        WeatherCalendar calendar = WeatherCalendar.builder()
+                .put("01-01", "Sunny")
+                .put("02-29", "Snowy")
+                .put("12-31", "Cloudy")
+                .put("13-01", "Invalid")
+                .build();
+
+        // when & then
+        assertEquals("Sunny", calendar.get(LocalDate.of(2025, 1, 1)));
+        assertEquals("Snowy", calendar.get(LocalDate.of(2024, 2, 29)));
+        assertEquals("Cloudy", calendar.get(LocalDate.of(2025, 12, 31)));
+        assertNull(calendar.get(LocalDate.of(2025, 3, 1)));
+    }
+
+    @Test
+    void 스냅샷을_저장하고_다시_읽으면_같은_날씨를_반환한다() throws IOException {
+        // given
+        Path snapshot = tempDir.resolve("weather-calendar.bin");
+        WeatherCalendar calendar = WeatherCalendar.builder()
+                .put("03-15", "맑음")
+                .put("07-04", "Rainy")
+                .build();
+
+        // when
+        calendar.writeTo(snapshot);
+        WeatherCalendar restored = WeatherCalendar.readFrom(snapshot);
+
+        // then
+        assertEquals("맑음", restored.get(LocalDate.of(2025, 3, 15)));
+        assertEquals("Rainy", restored.get(LocalDate.of(2025, 7, 4)));
+        assertNull(restored.get(LocalDate.of(2025, 7, 5)));
+    }
+
+    @Test
+    void 형식이_올바르지_않은_스냅샷은_예외가_발생한다() throws IOException {
+        // given
+        Path snapshot = tempDir.resolve("broken.bin");
+        Files.write(snapshot, new byte[]{1, 2, 3});
+
+        // when & then
+        assertThrows(IOException.class, () -> WeatherCalendar.readFrom(snapshot));
+    }
+}
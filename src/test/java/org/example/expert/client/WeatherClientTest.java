@@ -0,0 +1,218 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_URL = "https://f-api.github.io/f-api/weather.json";
+
+    @TempDir
+    Path tempDir;
+
+    private final MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WeatherClient weatherClient;
+
+    @AfterEach
+    void tearDown() {
+        if (weatherClient != null) weatherClient.shutdown();
+    }
+
+    @Test
+    void 동시에_캐시_미스가_발생해도_외부_API는_한_번만_호출된다() throws Exception {
+        // given
+        weatherClient = createWeatherClient(Duration.ofHours(24), 3);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson("Sunny"), MediaType.APPLICATION_JSON));
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(weatherClient::getTodayWeather);
+        }
+        List<Future<String>> results = executor.invokeAll(callers);
+        executor.shutdown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get());
+        }
+        server.verify();
+    }
+
+    @Test
+    void 캐시가_오래되어도_갱신에_실패하면_기존_날씨를_반환한다() {
+        // given
+        weatherClient = createWeatherClient(Duration.ZERO, 3);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson("Sunny"), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.manyTimes(), requestTo(WEATHER_URL))
+                .andRespond(withServerError());
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String stale = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", stale);
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열려_외부_API를_호출하지_않는다() {
+        // given
+        weatherClient = createWeatherClient(Duration.ofHours(24), 2);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.twice(), requestTo(WEATHER_URL))
+                .andRespond(withServerError());
+
+        // when
+        assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals("날씨 API 장애로 호출을 일시적으로 중단했습니다.", exception.getMessage());
+        server.verify();
+    }
+
+    @Test
+    void 처음에는_캐시_미스로_조회하고_이후에는_캐시에서_반환한다() {
+        // given
+        weatherClient = createWeatherClient(Duration.ofHours(24), 3);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson("Sunny"), MediaType.APPLICATION_JSON));
+
+        // when
+        String miss = weatherClient.getTodayWeather();
+        String hit = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", miss);
+        assertEquals("Sunny", hit);
+        assertEquals(1, count("weather.cache.requests", "result", "miss"));
+        assertEquals(1, count("weather.cache.requests", "result", "hit"));
+        assertEquals(1, count("weather.cache.refresh", "result", "success"));
+        server.verify();
+    }
+
+    @Test
+    void 스케줄_갱신이_실패하면_기존_캐시를_유지한다() {
+        // given
+        weatherClient = createWeatherClient(Duration.ofHours(24), 3);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson("Sunny"), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withServerError());
+        weatherClient.scheduledRefresh();
+
+        // when
+        weatherClient.scheduledRefresh();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(1, count("weather.cache.refresh", "result", "success"));
+        assertEquals(1, count("weather.cache.refresh", "result", "failure"));
+        assertEquals(1, count("weather.cache.requests", "result", "hit"));
+        server.verify();
+    }
+
+    @Test
+    void 캐시에_오늘_날씨가_없고_갱신도_실패하면_마지막으로_조회된_날씨를_반환한다() {
+        // given
+        weatherClient = createWeatherClient(Duration.ofHours(24), 3);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(todayWeatherJson("Sunny"), MediaType.APPLICATION_JSON));
+        // 오늘 날짜가 빠진 피드로 갱신되어 캐시에서 오늘 날씨가 사라집니다.
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(weatherJson(LocalDate.now().plusDays(1), "Rainy"), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withServerError());
+        weatherClient.getTodayWeather();
+        weatherClient.scheduledRefresh();
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(2, count("weather.cache.requests", "result", "miss"));
+        assertEquals(1, count("weather.cache.refresh", "result", "failure"));
+        server.verify();
+    }
+
+    @Test
+    void 마지막으로_조회된_날씨도_없으면_예외를_던진다() {
+        // given
+        weatherClient = createWeatherClient(Duration.ofHours(24), 3);
+        MockRestServiceServer server = customizer.getServer();
+        server.expect(ExpectedCount.once(), requestTo(WEATHER_URL))
+                .andRespond(withServerError());
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> weatherClient.getTodayWeather());
+        server.verify();
+    }
+
+    private double count(String name, String tagKey, String tagValue) {
+        return meterRegistry.counter(name, tagKey, tagValue).count();
+    }
+
+    private WeatherClient createWeatherClient(Duration cacheTtl, int failureThreshold) {
+        return new WeatherClient(
+                new RestTemplateBuilder(customizer),
+                new StaticListableBeanFactory().getBeanProvider(AsyncWeatherHttpClient.class),
+                meterRegistry,
+                "rest",
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(1),
+                tempDir.resolve("weather-calendar.bin"),
+                cacheTtl,
+                failureThreshold,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    private String todayWeatherJson(String weather) {
+        return weatherJson(LocalDate.now(), weather);
+    }
+
+    private String weatherJson(LocalDate date, String weather) {
+        String monthDay = date.format(DateTimeFormatter.ofPattern("MM-dd"));
+        return "[{\"date\":\"" + monthDay + "\",\"weather\":\"" + weather + "\"}]";
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedParserTest {
+
+    @Test
+    void 여러_날짜의_피드를_읽어_날짜별_날씨를_채운다() throws IOException {
+        // given
+        String feed = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}," +
+                "{\"weather\":\"Rainy\",\"extra\":{\"nested\":[1,2]},\"date\":\"02-29\"}," +
+                "{\"date\":\"12-31\",\"weather\":\"Cloudy\"}]";
+
+        // when
+        WeatherCalendar calendar = WeatherFeedParser.parseCalendar(stream(feed));
+
+        // then
+        assertEquals("Sunny", calendar.get(LocalDate.of(2025, 1, 1)));
+        assertEquals("Rainy", calendar.get(LocalDate.of(2024, 2, 29)));
+        assertEquals("Cloudy", calendar.get(LocalDate.of(2025, 12, 31)));
+        assertNull(calendar.get(LocalDate.of(2025, 6, 30)));
+    }
+
+    @Test
+    void 날짜가_없거나_형식이_틀린_항목은_건너뛴다() throws IOException {
+        // given
+        String feed = "[{\"weather\":\"Rainy\"}," +
+                "{\"date\":\"3/1\",\"weather\":\"Snowy\"}," +
+                "{\"date\":null,\"weather\":\"Windy\"}," +
+                "{\"date\":\"03-02\",\"weather\":\"Sunny\"}]";
+
+        // when
+        WeatherCalendar calendar = WeatherFeedParser.parseCalendar(stream(feed));
+
+        // then
+        assertNull(calendar.get(LocalDate.of(2025, 3, 1)));
+        assertEquals("Sunny", calendar.get(LocalDate.of(2025, 3, 2)));
+    }
+
+    @Test
+    void 배열이_아니거나_비어있으면_예외를_던진다() {
+        // when & then
+        assertThrows(ServerException.class, () -> WeatherFeedParser.parseCalendar(stream("{\"date\":\"01-01\"}")));
+        assertThrows(ServerException.class, () -> WeatherFeedParser.parseCalendar(stream("[]")));
+    }
+
+    @Test
+    void 배열에_객체가_아닌_값이_있거나_본문이_잘리면_일부만_읽지_않고_예외를_던진다() {
+        // when & then
+        assertThrows(ServerException.class, () -> WeatherFeedParser.parseCalendar(
+                stream("[{\"date\":\"01-01\",\"weather\":\"Sunny\"},5,{\"date\":\"01-02\",\"weather\":\"Rainy\"}]")));
+        assertThrows(JsonParseException.class, () -> WeatherFeedParser.parseCalendar(
+                stream("[{\"date\":\"01-01\",\"weather\":\"Sunny\"}")));
+        assertThrows(JsonParseException.class, () -> WeatherFeedParser.parseCalendar(
+                stream("[{\"date\":\"01-01\",\"weather\":\"Sun")));
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationCacheTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Test
+    void 같은_토큰은_한_번만_검증한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtUtil, meterRegistry, 100);
+        JwtPrincipal principal = new JwtPrincipal(1L, "a@a.com", "USER", "jti", System.currentTimeMillis() + 60_000);
+        given(jwtUtil.resolvePrincipal("token")).willReturn(principal);
+
+        // when
+        cache.resolve("token");
+        JwtPrincipal result = cache.resolve("token");
+
+        // then
+        assertSame(principal, result);
+        verify(jwtUtil, times(1)).resolvePrincipal("token");
+        assertEquals(1.0, meterRegistry.counter("jwt.cache.requests", "result", "hit").count());
+    }
+
+    @Test
+    void 만료된_항목은_다시_검증한다() {
+        // given
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(jwtUtil, new SimpleMeterRegistry(), 100);
+        JwtPrincipal expired = new JwtPrincipal(1L, "a@a.com", "USER", "jti", System.currentTimeMillis() - 1);
+        JwtPrincipal reissued = new JwtPrincipal(1L, "a@a.com", "USER", "jti", System.currentTimeMillis() + 60_000);
+        given(jwtUtil.resolvePrincipal("token")).willReturn(expired, reissued);
+
+        // when
+        cache.resolve("token");
+        JwtPrincipal result = cache.resolve("token");
+
+        // then
+        assertSame(reissued, result);
+        verify(jwtUtil, times(2)).resolvePrincipal("token");
+    }
+}
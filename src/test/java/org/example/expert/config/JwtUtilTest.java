@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtUtilTest {
+
+    private static final byte[] KEY_BYTES = "test-secret-key-0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    private JwtUtil jwtUtil;
+    private JwtFastVerifier fastVerifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(KEY_BYTES));
+        jwtUtil.init();
+        fastVerifier = new JwtFastVerifier(KEY_BYTES);
+    }
+
+    @Test
+    void 빠른_경로는_jjwt와_같은_사용자_정보를_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "a@a.com", UserRole.ADMIN));
+
+        // when
+        JwtPrincipal fast = fastVerifier.verify(token, System.currentTimeMillis());
+
+        // then
+        assertNotNull(fast);
+        JwtPrincipal resolved = jwtUtil.resolvePrincipal(token);
+        assertEquals(7L, fast.getUserId());
+        assertEquals("a@a.com", fast.getEmail());
+        assertEquals("ADMIN", fast.getUserRole());
+        assertEquals(resolved.getExpiresAt(), fast.getExpiresAt());
+    }
+
+    @Test
+    void 서명이_다르면_빠른_경로는_null을_반환하고_jjwt가_예외를_발생시킨다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "a@a.com", UserRole.USER));
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        // when & then
+        assertNull(fastVerifier.verify(tampered, System.currentTimeMillis()));
+        assertThrows(RuntimeException.class, () -> jwtUtil.resolvePrincipal(tampered));
+    }
+
+    @Test
+    void 만료된_토큰은_빠른_경로에서_처리하지_않는다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(7L, "a@a.com", UserRole.USER));
+
+        // when
+        JwtPrincipal principal = fastVerifier.verify(token, System.currentTimeMillis() + 2 * 60 * 60 * 1000L);
+
+        // then
+        assertNull(principal);
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -25,4 +27,24 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 측정한_시간으로_목표_시간에_가까운_cost를_선택한다() {
+        // cost 8에서 10ms였다면, 목표 80ms는 세 번 두 배가 된 cost 11입니다.
+        assertEquals(11, PasswordEncoder.costFor(10_000_000L, 80_000_000L, 4, 14));
+        assertEquals(14, PasswordEncoder.costFor(1_000L, 10_000_000_000L, 4, 14));
+        assertEquals(4, PasswordEncoder.costFor(10_000_000L, 1_000L, 4, 14));
+    }
+
+    @Test
+    void cost가_다른_해시는_재해시_대상이다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when & then
+        assertEquals(4, PasswordEncoder.costOf(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertTrue(passwordEncoder.needsRehash(encodedPassword.replaceFirst("\\$04\\$", "\\$10\\$")));
+        assertFalse(passwordEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.domain.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class AuthIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String EMAIL = "user1@example.com";
+    private static final String PASSWORD = "password";
+    private static final String USER_ROLE = "user";
+
+    @Test
+    void 리프레시_토큰으로_새_토큰을_발급받는다() throws Exception {
+        // 1. given
+        String refreshToken = signup().get("refreshToken").asText();
+
+        // 2. when
+        ResultActions refreshResult = refresh(refreshToken);
+        JsonNode refreshed = objectMapper.readTree(refreshResult.andReturn().getResponse().getContentAsString());
+
+        // 3. then
+        refreshResult.andExpect(status().isOk());
+        assertThat(refreshed.get("bearerToken").asText()).startsWith("Bearer ");
+        assertThat(refreshed.get("refreshToken").asText()).isNotEqualTo(refreshToken);
+    }
+
+    @Test
+    void 사용된_리프레시_토큰을_재사용하면_같은_family의_토큰이_모두_폐기된다() throws Exception {
+        // 1. given
+        String refreshToken = signup().get("refreshToken").asText();
+        String rotatedToken = objectMapper.readTree(refresh(refreshToken).andReturn().getResponse().getContentAsString())
+                .get("refreshToken").asText();
+
+        // 2. when
+        ResultActions reuseResult = refresh(refreshToken);
+
+        // 3. then
+        reuseResult.andExpect(status().isUnauthorized());
+        refresh(rotatedToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 로그아웃하면_액세스_토큰과_리프레시_토큰을_더_이상_사용할_수_없다() throws Exception {
+        // 1. given
+        JsonNode signup = signup();
+        String bearerToken = signup.get("bearerToken").asText();
+        String refreshToken = signup.get("refreshToken").asText();
+
+        // 2. when
+        ResultActions logoutResult = mockMvc.perform(post("/auth/logout")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+
+        // 3. then
+        logoutResult.andExpect(status().isOk());
+        mockMvc.perform(get("/todos").header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isUnauthorized());
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 중복_확인을_지나친_같은_이메일의_가입은_unique_제약으로_400을_반환한다() throws Exception {
+        // 1. given
+        // Bloom filter를 거치지 않고 저장하여, 가입 시 중복 확인 쿼리를 건너뛰고 unique 제약에서 걸리게 합니다.
+        jdbcTemplate.update("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                "VALUES (?, 'hash', 'USER', NOW(), NOW())", EMAIL);
+
+        // 2. when
+        ResultActions signupResult = mockMvc.perform(post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new SignupRequest(EMAIL, PASSWORD, USER_ROLE))));
+
+        // 3. then
+        signupResult.andExpect(status().isBadRequest());
+        assertThat(signupResult.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("이미 존재하는 이메일입니다.");
+    }
+
+    private JsonNode signup() throws Exception {
+        SignupRequest signupRequest = new SignupRequest(EMAIL, PASSWORD, USER_ROLE);
+
+        String signupAsString = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signupRequest)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(signupAsString);
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+    }
+}
@@ -11,16 +11,25 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.PasswordRehashWriter;
+import org.example.expert.domain.user.service.RegisteredEmailFilter;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -35,6 +44,16 @@ public class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private PasswordRehashWriter passwordRehashWriter;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+    @Mock
+    private TransactionTemplate transactionTemplate;
     @InjectMocks
     private AuthService authService;
 
@@ -43,6 +62,7 @@ public class AuthServiceTest {
         // 1. given
         SignupRequest signupRequest = new SignupRequest("user1@example.com", "password", "user");
 
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(true);
 
         // 2. when
@@ -54,6 +74,43 @@ public class AuthServiceTest {
         assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
     }
 
+    @Test
+    void 동시에_같은_이메일로_가입하면_unique_제약_위반을_중복_예외로_변환한다() {
+        // 1. given
+        SignupRequest signupRequest = new SignupRequest("user1@example.com", "password", "user");
+
+        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encodedPassword");
+        givenTransaction();
+        given(userRepository.saveAndFlush(any(User.class))).willThrow(constraintViolation("PUBLIC.UK_USERS_EMAIL_INDEX_4"));
+
+        // 2. when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                authService.signup(signupRequest)
+        );
+
+        // 3. then
+        assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 이메일_unique_제약이_아닌_제약_위반은_그대로_던진다() {
+        // 1. given
+        SignupRequest signupRequest = new SignupRequest("user1@example.com", "password", "user");
+
+        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encodedPassword");
+        givenTransaction();
+        DataIntegrityViolationException violation = constraintViolation("ck_users_user_role");
+        given(userRepository.saveAndFlush(any(User.class))).willThrow(violation);
+
+        // 2. when
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class, () ->
+                authService.signup(signupRequest)
+        );
+
+        // 3. then
+        assertSame(violation, exception);
+    }
+
     @Test
     void 가입되지않은_유저라면_예외가_발생한다() {
         // 1. given
@@ -98,9 +155,9 @@ public class AuthServiceTest {
 
         String token = "token123";
 
-        given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
         given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encodedPassword");
-        given(userRepository.save(any(User.class))).willReturn(user);
+        givenTransaction();
+        given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
         given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn(token);
 
         // 2. when
@@ -108,7 +165,35 @@ public class AuthServiceTest {
 
         // 3. then
         assertEquals(token, signupResponse.getBearerToken());
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByEmail(any());
+        verify(registeredEmailFilter, times(1)).put(user.getEmail());
+    }
+
+    @Test
+    void 리프레시_토큰_발급에_실패하면_가입_트랜잭션과_함께_실패한다() {
+        // 1. given
+        SignupRequest signupRequest = new SignupRequest("user1@example.com", "password", "user");
+
+        User user = new User("user1@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(passwordEncoder.encode(signupRequest.getPassword())).willReturn("encodedPassword");
+        givenTransaction();
+        given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
+        given(refreshTokenService.issue(user.getId())).willThrow(new IllegalStateException("refresh token"));
+
+        // 2. when
+        assertThrows(IllegalStateException.class, () -> authService.signup(signupRequest));
+
+        // 3. then
+        // 해시는 트랜잭션 밖에서, 유저와 리프레시 토큰 저장은 하나의 트랜잭션 안에서 실행됩니다.
+        InOrder inOrder = inOrder(passwordEncoder, transactionTemplate, userRepository, refreshTokenService);
+        inOrder.verify(passwordEncoder).encode(signupRequest.getPassword());
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(userRepository).saveAndFlush(any(User.class));
+        inOrder.verify(refreshTokenService).issue(user.getId());
+        verify(registeredEmailFilter, never()).put(any());
     }
 
     @Test
@@ -132,4 +217,35 @@ public class AuthServiceTest {
         assertEquals(token, signinResponse.getBearerToken());
     }
 
-}
\ No newline at end of file
+    @Test
+    void 로그인에_성공하고_해시_비용이_다르면_재해시를_요청한다() {
+        // 1. given
+        SigninRequest signinRequest = new SigninRequest("user1@example.com", "password");
+
+        User user = new User("user1@example.com", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
+        given(passwordEncoder.needsRehash(user.getPassword())).willReturn(true);
+
+        // 2. when
+        authService.signin(signinRequest);
+
+        // 3. then
+        verify(passwordRehashWriter, times(1)).rehash(1L, "password", "oldHash");
+    }
+
+    /*
+     * TransactionTemplate은 콜백을 바로 실행하도록 합니다.
+     */
+    private void givenTransaction() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+}
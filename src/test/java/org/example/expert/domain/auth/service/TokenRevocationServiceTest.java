@@ -0,0 +1,71 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.entity.RevokedToken;
+import org.example.expert.domain.auth.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, new SimpleMeterRegistry(), 1_000, 0.01);
+    }
+
+    @Test
+    void 폐기되지_않은_토큰은_DB를_조회하지_않는다() {
+        // when
+        boolean revoked = tokenRevocationService.isRevoked("active-jti");
+
+        // then
+        assertFalse(revoked);
+        verify(revokedTokenRepository, never()).existsActive(anyString(), any());
+    }
+
+    @Test
+    void 폐기한_토큰은_DB에서_확인하여_폐기로_판단한다() {
+        // given
+        given(revokedTokenRepository.existsActive(eq("revoked-jti"), any())).willReturn(true);
+
+        // when
+        tokenRevocationService.revoke("revoked-jti", System.currentTimeMillis() + 60_000);
+
+        // then
+        verify(revokedTokenRepository).saveAndFlush(any(RevokedToken.class));
+        assertTrue(tokenRevocationService.isRevoked("revoked-jti"));
+    }
+
+    @Test
+    void 재생성하면_DB의_폐기_목록으로_filter를_다시_만든다() {
+        // given
+        given(revokedTokenRepository.findActiveTokenIds(any())).willReturn(List.of("stored-jti"));
+        given(revokedTokenRepository.existsActive(eq("stored-jti"), any())).willReturn(true);
+
+        // when
+        tokenRevocationService.rebuild();
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked("stored-jti"));
+    }
+}
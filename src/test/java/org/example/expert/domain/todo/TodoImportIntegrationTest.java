@@ -0,0 +1,237 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.todo.event.TodoImportedEvent;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoFeedCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 가져오기는 StatelessSession으로 묶음마다 직접 커밋하므로, 테스트 트랜잭션 대신 테스트마다 저장된 데이터를 지웁니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@RecordApplicationEvents
+public class TodoImportIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TodoCountCache todoCountCache;
+    @Autowired
+    TodoFeedCache todoFeedCache;
+    @Autowired
+    ApplicationEvents applicationEvents;
+
+    private static final String ADMIN_EMAIL = "import-admin@example.com";
+    private static final String USER_EMAIL = "import-user@example.com";
+    private static final String PASSWORD = "password";
+
+    private String bearerToken;
+    private String userBearerToken;
+    private long adminId;
+    private long userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bearerToken = signup(ADMIN_EMAIL, "admin");
+        userBearerToken = signup(USER_EMAIL, "user");
+        adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, ADMIN_EMAIL);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, USER_EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM todo_import_checkpoints");
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        jdbcTemplate.update("DELETE FROM users WHERE email IN (?, ?)", ADMIN_EMAIL, USER_EMAIL);
+        todoCountCache.reconcile();
+        todoFeedCache.invalidate();
+    }
+
+    @Test
+    void NDJSON으로_일정과_담당자와_댓글을_가져오고_존재하지_않는_유저의_레코드는_건너뛴다() throws Exception {
+        // 1. given
+        String ndjson = String.join("\n",
+                "{\"userId\":" + adminId + ",\"title\":\"t1\",\"contents\":\"c1\",\"weather\":\"Sunny\"," +
+                        "\"createdAt\":\"2024-01-02T03:04:05\",\"managerUserIds\":[" + userId + "]," +
+                        "\"comments\":[{\"userId\":" + userId + ",\"contents\":\"comment\"}]}",
+                "{\"userId\":999999,\"title\":\"t2\",\"contents\":\"c2\"}",
+                "{\"userId\":" + userId + ",\"title\":\"t3\",\"contents\":\"c3\",\"managerUserIds\":[999999]}",
+                "{\"userId\":" + userId + ",\"title\":\"t4\",\"contents\":\"c4\"}");
+
+        // 2. when
+        String responseAsString = importTodos("legacy", "ndjson", ndjson.getBytes(StandardCharsets.UTF_8), null)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(responseAsString);
+
+        // 3. then
+        assertEquals("COMPLETED", response.get("status").asText());
+        assertEquals(4, response.get("processedRecords").asLong());
+        assertEquals(2, response.get("importedTodos").asLong());
+        assertEquals(2, response.get("rejectedRecords").asLong());
+
+        assertEquals(2, count("SELECT COUNT(*) FROM todos"));
+        assertEquals(3, count("SELECT COUNT(*) FROM managers"));
+        assertEquals(1, count("SELECT COUNT(*) FROM comments"));
+        assertEquals("2024-01-02T03:04:05", jdbcTemplate.queryForObject(
+                "SELECT created_at FROM todos WHERE title = 't1'", LocalDateTime.class).toString());
+    }
+
+    @Test
+    void 중간에_실패하면_같은_importId로_저장된_레코드_다음부터_이어서_가져온다() throws Exception {
+        // 1. given
+        // 첫 묶음(1000건)을 저장한 뒤 형식 오류로 실패합니다.
+        StringBuilder broken = ndjsonTodos(1, 1200);
+        broken.append("{\"userId\":\n");
+        importTodos("resume", "ndjson", broken.toString().getBytes(StandardCharsets.UTF_8), null)
+                .andExpect(status().isBadRequest());
+
+        JsonNode failed = getImport("resume");
+        assertEquals("FAILED", failed.get("status").asText());
+        assertEquals(1000, failed.get("processedRecords").asLong());
+        // 실패 전에 커밋된 첫 묶음도 색인과 캐시에 반영되도록 이벤트가 발행됩니다.
+        TodoImportedEvent failedEvent = applicationEvents.stream(TodoImportedEvent.class).findFirst().orElseThrow();
+        assertEquals(count("SELECT MIN(id) FROM todos"), failedEvent.getFirstTodoId());
+
+        // 2. when
+        String responseAsString = importTodos("resume", "ndjson", ndjsonTodos(1, 1500).toString().getBytes(StandardCharsets.UTF_8), null)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(responseAsString);
+
+        // 3. then
+        assertEquals("COMPLETED", response.get("status").asText());
+        assertEquals(1500, response.get("importedTodos").asLong());
+        assertEquals(1500, count("SELECT COUNT(DISTINCT title) FROM todos"));
+        assertEquals(1500, count("SELECT COUNT(*) FROM todos"));
+    }
+
+    @Test
+    void gzip으로_압축된_CSV를_가져온다() throws Exception {
+        // 1. given
+        String csv = "title,contents,userId,managerUserIds\r\n" +
+                "\"a, \"\"quoted\"\"\",\"multi\nline\"," + adminId + "," + userId + "\r\n" +
+                "plain,contents," + userId + ",\r\n";
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 2. when
+        importTodos("csv", "csv", gzipped.toByteArray(), "gzip")
+                .andExpect(status().isOk());
+
+        // 3. then
+        assertEquals(2, count("SELECT COUNT(*) FROM todos"));
+        assertEquals("multi\nline", jdbcTemplate.queryForObject(
+                "SELECT contents FROM todos WHERE title = 'a, \"quoted\"'", String.class));
+        assertEquals(3, count("SELECT COUNT(*) FROM managers"));
+    }
+
+    @Test
+    void 완료된_importId로_다시_요청하면_가져오지_않고_이전_결과를_반환한다() throws Exception {
+        // 1. given
+        byte[] ndjson = ndjsonTodos(1, 3).toString().getBytes(StandardCharsets.UTF_8);
+        importTodos("once", "ndjson", ndjson, null).andExpect(status().isOk());
+
+        // 2. when
+        String responseAsString = importTodos("once", "ndjson", ndjson, null)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(responseAsString);
+
+        // 3. then
+        assertEquals(3, response.get("importedTodos").asLong());
+        assertEquals(3, count("SELECT COUNT(*) FROM todos"));
+    }
+
+    @Test
+    void 관리자가_아니면_가져올_수_없다() throws Exception {
+        // 2. when & 3. then
+        mockMvc.perform(post("/admin/todos/imports/forbidden")
+                        .header(HttpHeaders.AUTHORIZATION, userBearerToken)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+    }
+
+    private StringBuilder ndjsonTodos(int from, int to) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = from; i <= to; i++) {
+            ndjson.append("{\"userId\":").append(userId)
+                    .append(",\"title\":\"title").append(i)
+                    .append("\",\"contents\":\"contents\",\"weather\":\"Sunny\"}\n");
+        }
+        return ndjson;
+    }
+
+    private ResultActions importTodos(String importId, String format, byte[] body, String contentEncoding) throws Exception {
+        MockHttpServletRequestBuilder request = post("/admin/todos/imports/" + importId)
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .param("format", format)
+                .content(body);
+        if (contentEncoding != null) {
+            request.header(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private JsonNode getImport(String importId) throws Exception {
+        String responseAsString = mockMvc.perform(get("/admin/todos/imports/" + importId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(responseAsString);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private String signup(String email, String userRole) throws Exception {
+        String signupAsString = mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SignupRequest(email, PASSWORD, userRole))))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(signupAsString)
+                .get("bearerToken")
+                .asText();
+    }
+}
@@ -1,23 +1,43 @@
 package org.example.expert.domain.todo;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoFeedCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -31,6 +51,14 @@ public class TodoIntegrationTest {
     TodoRepository todoRepository;
     @Autowired
     ObjectMapper objectMapper;
+    @Autowired
+    TodoExportService todoExportService;
+    @Autowired
+    TodoFeedCache todoFeedCache;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
 
     private static final String EMAIL = "user1@example.com";
     private static final String PASSWORD = "password";
@@ -63,6 +91,462 @@ public class TodoIntegrationTest {
         assertThat(todoRepository.findById(todoResponse.getId())).isPresent();
     }
 
+    @Test
+    void 커서로_일정_목록을_이어서_조회한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/todos")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new TodoSaveRequest(TITLE + i, CONTENTS))));
+        }
+
+        // 2. when
+        JsonNode firstPage = getTodosByCursor(bearerToken, null);
+        JsonNode secondPage = getTodosByCursor(bearerToken, firstPage.get("nextCursor").asText());
+
+        // 3. then
+        assertEquals(2, firstPage.get("content").size());
+        assertThat(firstPage.get("hasNext").asBoolean()).isTrue();
+        assertEquals(1, secondPage.get("content").size());
+        assertThat(secondPage.get("hasNext").asBoolean()).isFalse();
+        assertThat(secondPage.get("content").get(0).get("id").asLong())
+                .isNotIn(firstPage.get("content").get(0).get("id").asLong(), firstPage.get("content").get(1).get("id").asLong());
+    }
+
+    @Test
+    void Slice로_일정_목록을_조회하면_전체_개수_없이_다음_페이지_여부를_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 3);
+
+        // 2. when
+        JsonNode firstPage = getTodos(bearerToken, "/todos/slice", 1);
+        JsonNode secondPage = getTodos(bearerToken, "/todos/slice", 2);
+
+        // 3. then
+        assertEquals(2, firstPage.get("content").size());
+        assertThat(firstPage.get("hasNext").asBoolean()).isTrue();
+        assertThat(firstPage.has("totalElements")).isFalse();
+        assertEquals(1, secondPage.get("content").size());
+        assertThat(secondPage.get("hasNext").asBoolean()).isFalse();
+    }
+
+    @Test
+    void 근사_개수로_조회해도_마지막_페이지에서는_정확한_개수를_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 3);
+
+        // 2. when
+        JsonNode lastPage = getTodos(bearerToken, "/todos?approximateTotal=true", 2);
+
+        // 3. then
+        assertEquals(1, lastPage.get("content").size());
+        assertEquals(3, lastPage.get("page").get("totalElements").asLong());
+    }
+
+    @Test
+    void 날씨와_수정일_기간으로_일정_목록을_조회한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 3);
+        String from = LocalDateTime.now().minusHours(1).toString();
+        String to = LocalDateTime.now().plusHours(1).toString();
+        // 테스트 환경에서는 날씨 API를 호출할 수 없어 날씨가 비어있을 수 있으므로, 날씨를 직접 지정합니다.
+        String weather = "Sunny";
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE todos SET weather = ?", weather);
+
+        // 2. when
+        JsonNode matched = getTodos(bearerToken, "/todos?weather=" + weather + "&modifiedFrom=" + from + "&modifiedTo=" + to, 1);
+        JsonNode unmatched = getTodos(bearerToken, "/todos?weather=Unknown&modifiedFrom=" + from, 1);
+
+        // 3. then
+        assertEquals(3, matched.get("page").get("totalElements").asLong());
+        assertEquals(0, unmatched.get("page").get("totalElements").asLong());
+        mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("modifiedFrom", to)
+                        .param("modifiedTo", from))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 일정을_일괄_생성하면_모든_일정과_담당자가_저장된다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // flush 단위(100건)를 넘는 개수로 저장합니다.
+        List<TodoSaveRequest> todos = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            todos.add(new TodoSaveRequest(TITLE + i, CONTENTS));
+        }
+
+        // 2. when
+        String responseAsString = mockMvc.perform(post("/todos/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TodoBulkSaveRequest(todos))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode response = objectMapper.readTree(responseAsString);
+
+        // 3. then
+        List<Long> ids = new ArrayList<>();
+        response.get("ids").forEach(id -> ids.add(id.asLong()));
+        assertThat(ids).hasSize(150).doesNotHaveDuplicates();
+        assertThat(todoRepository.findAllById(ids))
+                .hasSize(150)
+                .allSatisfy(todo -> {
+                    assertThat(todo.getWeather()).isEqualTo(response.get("weather").textValue());
+                    assertThat(todo.getManagers()).hasSize(1);
+                });
+    }
+
+    @Test
+    void 일괄_생성할_일정이_없으면_400을_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when & 3. then
+        mockMvc.perform(post("/todos/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TodoBulkSaveRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 일정을_NDJSON으로_내보내면_한_줄에_일정_하나씩_id_순서로_쓴다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 3);
+
+        // 2. when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = todoExportService.export(TodoFileFormat.NDJSON, out);
+
+        // 3. then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, count);
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode todo = objectMapper.readTree(lines[i]);
+            assertEquals(TITLE + i, todo.get("title").asText());
+            assertEquals(EMAIL, todo.get("user").get("email").asText());
+        }
+    }
+
+    @Test
+    void 일정을_CSV로_내보내면_쉼표와_따옴표가_있는_값을_따옴표로_감싼다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        mockMvc.perform(post("/todos")
+                .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TodoSaveRequest("a, \"b\"", CONTENTS))));
+
+        // 2. when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        todoExportService.export(TodoFileFormat.CSV, out);
+
+        // 3. then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("id,title,contents,weather,userId,email,createdAt,modifiedAt", lines[0]);
+        assertThat(lines[1]).contains(",\"a, \"\"b\"\"\"," + CONTENTS + ",").contains("," + EMAIL + ",");
+    }
+
+    @Test
+    void gzip을_허용하면_압축된_CSV로_내보낸다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when
+        MvcResult asyncResult = mockMvc.perform(get("/todos/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // 3. then
+        byte[] body = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .startsWith("id,title,contents,weather,userId,email,createdAt,modifiedAt\r\n");
+        }
+    }
+
+    @Test
+    void gzip의_q가_0이면_압축하지_않고_내보낸다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when
+        MvcResult asyncResult = mockMvc.perform(get("/todos/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        // 3. then
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .startsWith("id,title,contents,weather,userId,email,createdAt,modifiedAt\r\n");
+    }
+
+    @Test
+    void gzip이_없어도_와일드카드를_허용하면_압축하여_내보낸다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when
+        MvcResult asyncResult = mockMvc.perform(get("/todos/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, *;q=0.1")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 3. then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void 지원하지_않는_형식으로_내보내면_400을_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when & 3. then
+        mockMvc.perform(get("/todos/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 일정의_ETag가_같으면_304를_반환하고_수정되면_새_본문을_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 1);
+        // 요청마다 새 영속성 컨텍스트에서 조회하는 실제 환경처럼, 나노초 값이 남은 엔티티 대신 DB에 저장된 값으로 조회합니다.
+        entityManager.flush();
+        entityManager.clear();
+        long todoId = todoRepository.findAll().get(0).getId();
+
+        String etag = mockMvc.perform(get("/todos/" + todoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // 2. when
+        MvcResult notModified = mockMvc.perform(get("/todos/" + todoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn();
+
+        jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", LocalDateTime.now().plusMinutes(1), todoId);
+        entityManager.clear();
+
+        MvcResult modified = mockMvc.perform(get("/todos/" + todoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn();
+
+        // 3. then
+        assertThat(etag).startsWith("\"");
+        assertEquals(304, notModified.getResponse().getStatus());
+        assertEquals(0, notModified.getResponse().getContentLength());
+        assertEquals(etag, notModified.getResponse().getHeader(HttpHeaders.ETAG));
+
+        assertEquals(200, modified.getResponse().getStatus());
+        assertThat(modified.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertEquals(TITLE + 0, objectMapper.readTree(modified.getResponse().getContentAsString()).get("title").asText());
+    }
+
+    @Test
+    void 날씨가_채워지면_수정_시각이_같아도_일정의_ETag가_바뀐다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 1);
+        entityManager.flush();
+        long todoId = todoRepository.findAll().get(0).getId();
+        jdbcTemplate.update("UPDATE todos SET weather = NULL WHERE id = ?", todoId);
+        entityManager.clear();
+
+        String pendingEtag = mockMvc.perform(get("/todos/" + todoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // 2. when
+        // 날씨 채우기는 modified_at을 바꾸지 않습니다.
+        jdbcTemplate.update("UPDATE todos SET weather = ? WHERE id = ?", "Sunny", todoId);
+        entityManager.clear();
+
+        MvcResult filled = mockMvc.perform(get("/todos/" + todoId)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, pendingEtag))
+                .andReturn();
+
+        // 3. then
+        assertEquals(200, filled.getResponse().getStatus());
+        assertThat(filled.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(pendingEtag);
+        assertEquals("Sunny", objectMapper.readTree(filled.getResponse().getContentAsString()).get("weather").asText());
+    }
+
+    @Test
+    void 없는_일정에_조건부_요청을_보내면_400을_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when & 3. then
+        mockMvc.perform(get("/todos/" + Long.MAX_VALUE)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 일정_목록의_ETag가_같으면_304를_반환하고_목록이_바뀌면_새_ETag를_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        saveTodos(bearerToken, 3);
+
+        String etag = mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // 2. when
+        MvcResult notModified = mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("size", "2"))
+                .andReturn();
+
+        // ETag는 본문의 해시이므로 목록 내용이 바뀌어야 새 값이 됩니다.
+        // 테스트 트랜잭션은 커밋되지 않으므로, 커밋 후 무효화를 직접 호출합니다.
+        saveTodos(bearerToken, 1);
+        todoFeedCache.invalidate();
+
+        MvcResult modified = mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("size", "2"))
+                .andReturn();
+
+        // 3. then
+        assertThat(etag).isNotNull();
+        assertEquals(304, notModified.getResponse().getStatus());
+        assertEquals(0, notModified.getResponse().getContentLength());
+
+        assertEquals(200, modified.getResponse().getStatus());
+        assertThat(modified.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertEquals(2, objectMapper.readTree(modified.getResponse().getContentAsString()).get("content").size());
+    }
+
+    @Test
+    void 캐시_대상이_아닌_목록_페이지도_본문이_같으면_304를_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+        String etag = mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("page", "100"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // 2. when & 3. then
+        assertThat(etag).isNotNull();
+        mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .param("page", "100"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void 조건이_있는_목록은_캐시하지_않고_ETag를_붙이지_않는다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when & 3. then
+        mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("approximateTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void 검색어에_토큰이_없으면_400을_반환한다() throws Exception {
+        // 1. given
+        String bearerToken = getBearerTokenBySignup();
+
+        // 2. when & 3. then
+        mockMvc.perform(get("/todos/search")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("q", " !? "))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void saveTodos(String bearerToken, int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            mockMvc.perform(post("/todos")
+                    .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new TodoSaveRequest(TITLE + i, CONTENTS))));
+        }
+    }
+
+    private JsonNode getTodos(String bearerToken, String url, int page) throws Exception {
+        String responseAsString = mockMvc.perform(get(url)
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("page", String.valueOf(page))
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(responseAsString);
+    }
+
+    private JsonNode getTodosByCursor(String bearerToken, String cursor) throws Exception {
+        String responseAsString = mockMvc.perform(get("/todos/cursor")
+                        .header(HttpHeaders.AUTHORIZATION, bearerToken)
+                        .param("size", "2")
+                        .param("cursor", cursor == null ? "" : cursor))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(responseAsString);
+    }
+
     private String getBearerTokenBySignup() throws Exception {
         SignupRequest signupRequest = new SignupRequest(EMAIL, PASSWORD, USER_ROLE);
 
@@ -0,0 +1,223 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 목록 조회 쿼리가 인덱스 범위만 정렬 순서대로 읽는지(정렬, 전체 스캔 없음) 실행 계획으로 확인합니다.
+ * TodoRepository의 메서드를 실제로 호출하여 Hibernate가 만든 SQL을 StatementInspector로 가로채고, 그 SQL의 실행 계획을 봅니다.
+ * 따라서 JPQL의 조건이나 정렬이 바뀌어 인덱스를 사용하지 못하게 되면 이 테스트가 실패합니다.
+ * <p>
+ * 데이터 준비는 H2와 MySQL에서 모두 실행되는 SQL만 사용합니다.
+ * DB_URL이 MySQL을 가리키면 MySQL의 EXPLAIN 결과로, 아니면 H2의 실행 계획으로 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc // 다른 통합 테스트와 컨텍스트를 공유하여 스키마와 시퀀스가 다시 만들어지지 않도록 합니다.
+@Transactional
+class TodoQueryPlanTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 1, 2, 0, 0);
+    private static final long ID_GAP = 1_000_000L;
+    private static final Pattern SQL_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern ORDER_BY = Pattern.compile("\\border by\\s+(.+?)\\s+(?:fetch|limit|offset)\\b");
+    private static final Pattern TODOS_ALIAS = Pattern.compile("\\bfrom\\s+todos\\s+(\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 한 명뿐이면 users부터 읽는 계획이 선택될 수 있으므로, 실제처럼 여러 작성자로 나눕니다.
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(new Object[]{"plan" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, password, user_role, created_at, modified_at) " +
+                "VALUES (?, 'password', 'USER', NOW(), NOW())", users);
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE email LIKE 'plan%'", Long.class);
+
+        // MySQL에서는 시퀀스가 테이블로 만들어져 NEXT VALUE FOR를 쓸 수 없으므로, 기존 id보다 충분히 큰 id를 직접 지정합니다.
+        // 테스트 트랜잭션은 롤백되므로 애플리케이션이 이후에 할당할 id와 겹치지 않습니다.
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM todos", Long.class) + ID_GAP;
+
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2025, 12, 31, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            Timestamp modifiedAt = Timestamp.valueOf(base.plusMinutes(i * 5L));
+            Long userId = userIds.get(i % userIds.size());
+            rows.add(new Object[]{firstId + i, "title" + i, "contents", i % 3 == 0 ? "Sunny" : "Rain", userId, modifiedAt, modifiedAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    void 첫_페이지_조회는_수정일_인덱스를_정렬_순서대로_읽는다() {
+        String sql = capturedSql(() -> todoRepository.findFirstPage(PageRequest.of(0, 10)));
+
+        // H2는 조인 순서를 고를 때 LIMIT을 고려하지 않아 조건 없는 조인은 users부터 읽으므로, 실행 계획은 MySQL에서만 확인합니다.
+        assertOrderByFollowsIndex(sql, "idx_todos_modified_at_id");
+        if (isMySql()) {
+            assertMySqlIndexScan(sql, "idx_todos_modified_at_id", 10);
+        }
+    }
+
+    @Test
+    void 날씨와_기간_조회는_날씨_인덱스를_정렬_순서대로_읽는다() {
+        String sql = capturedSql(() -> todoRepository.findResponsesByWeatherAndModifiedAtBetween(
+                "Sunny", FROM, TO, PageRequest.of(0, 10)));
+
+        assertIndexRangeWithoutSort(sql, "idx_todos_weather_modified_at_id", "Sunny", FROM, TO, 10);
+    }
+
+    @Test
+    void 기간_조회는_수정일_인덱스를_정렬_순서대로_읽는다() {
+        String sql = capturedSql(() -> todoRepository.findResponsesByModifiedAtBetween(FROM, TO, PageRequest.of(0, 10)));
+
+        assertIndexRangeWithoutSort(sql, "idx_todos_modified_at_id", FROM, TO, 10);
+    }
+
+    /*
+     * 리포지토리 호출이 실행한 첫 번째 SQL(목록 조회)을 반환합니다.
+     * 테스트 트랜잭션의 세션은 StatementInspector를 바꿀 수 없으므로, 호출하는 동안만 SQL을 가로채는 세션을 트랜잭션에 바인딩합니다.
+     * 이 세션은 별도 커넥션을 사용하므로 조회 결과는 보지 않고 SQL만 사용합니다.
+     */
+    private String capturedSql(Runnable repositoryCall) {
+        List<String> statements = new ArrayList<>();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Object testTransactionHolder = TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        try (Session session = sessionFactory.withOptions()
+                .statementInspector(sql -> {
+                    statements.add(sql);
+                    return sql;
+                })
+                .openSession()) {
+            EntityManagerHolder inspectingHolder = new EntityManagerHolder(session);
+            // 테스트 트랜잭션이 끝날 때 이미 닫힌 세션을 정리하지 않도록, 트랜잭션 동기화 대상으로 등록하지 않습니다.
+            inspectingHolder.setSynchronizedWithTransaction(true);
+            TransactionSynchronizationManager.bindResource(entityManagerFactory, inspectingHolder);
+            try {
+                repositoryCall.run();
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            }
+        } finally {
+            TransactionSynchronizationManager.bindResource(entityManagerFactory, testTransactionHolder);
+        }
+        assertThat(statements).isNotEmpty();
+        // use_sql_comments로 앞에 붙는 JPQL 주석은 제외합니다.
+        return SQL_COMMENT.matcher(statements.get(0)).replaceAll("").trim();
+    }
+
+    private void assertIndexRangeWithoutSort(String sql, String indexName, Object... parameters) {
+        assertOrderByFollowsIndex(sql, indexName);
+        if (isMySql()) {
+            assertMySqlIndexScan(sql, indexName, parameters);
+            return;
+        }
+
+        // H2는 인덱스를 사용하면 /* 인덱스명: 조건 */을, 정렬 없이 인덱스 순서대로 읽으면 /* index sorted */를 표시합니다.
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + withLiterals(sql, parameters), String.class)
+                .toLowerCase(Locale.ROOT);
+        assertThat(plan).contains(indexName.toLowerCase(Locale.ROOT));
+        assertThat(plan).contains("index sorted");
+    }
+
+    private void assertMySqlIndexScan(String sql, String indexName, Object... parameters) {
+        Matcher alias = TODOS_ALIAS.matcher(sql.toLowerCase(Locale.ROOT));
+        assertThat(alias.find()).isTrue();
+        Map<String, Object> todoPlan = jdbcTemplate.queryForList("EXPLAIN " + withLiterals(sql, parameters)).stream()
+                .filter(row -> alias.group(1).equals(row.get("table")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(String.valueOf(todoPlan.get("key"))).isEqualTo(indexName);
+        assertThat(String.valueOf(todoPlan.get("type"))).isIn("range", "ref", "index");
+        assertThat(String.valueOf(todoPlan.get("Extra"))).doesNotContain("Using filesort");
+    }
+
+    /*
+     * 생성된 SQL의 ORDER BY가 Todo 엔티티에 선언한 인덱스의 컬럼 순서, 방향과 같은지 확인합니다.
+     */
+    private void assertOrderByFollowsIndex(String sql, String indexName) {
+        Index index = Arrays.stream(Todo.class.getAnnotation(Table.class).indexes())
+                .filter(candidate -> candidate.name().equals(indexName))
+                .findFirst()
+                .orElseThrow();
+        Matcher orderBy = ORDER_BY.matcher(sql.toLowerCase(Locale.ROOT));
+        assertThat(orderBy.find()).isTrue();
+
+        assertThat(normalizedColumns(orderBy.group(1).replaceAll("\\w+\\.", "")))
+                .isEqualTo(normalizedColumns(index.columnList().replaceAll("([a-z])([A-Z])", "$1_$2")));
+    }
+
+    private List<String> normalizedColumns(String columns) {
+        return Arrays.stream(columns.toLowerCase(Locale.ROOT).split(","))
+                .map(column -> column.trim().replaceAll("\\s+", " "))
+                .toList();
+    }
+
+    private boolean isMySql() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(database);
+    }
+
+    /*
+     * 바인딩 파라미터를 리터럴로 바꿉니다.
+     * H2는 파라미터 값을 모르는 상태에서 계획을 세우므로 LIMIT ?를 알지 못해 인덱스 순서 읽기를 고르지 않습니다.
+     * 파라미터 수가 다르면 JPQL의 조건이 바뀐 것이므로 실행 계획을 보기 전에 실패합니다.
+     */
+    private String withLiterals(String sql, Object... parameters) {
+        String[] parts = sql.split("\\?", -1);
+        assertThat(parts).hasSize(parameters.length + 1);
+
+        StringBuilder literalSql = new StringBuilder(parts[0]);
+        for (int i = 0; i < parameters.length; i++) {
+            literalSql.append(literal(parameters[i])).append(parts[i + 1]);
+        }
+        return literalSql.toString();
+    }
+
+    private String literal(Object parameter) {
+        if (parameter instanceof LocalDateTime dateTime) {
+            return "TIMESTAMP '" + Timestamp.valueOf(dateTime) + "'";
+        }
+        if (parameter instanceof String text) {
+            return "'" + text.replace("'", "''") + "'";
+        }
+        return String.valueOf(parameter);
+    }
+}
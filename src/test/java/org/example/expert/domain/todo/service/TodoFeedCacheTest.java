@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TodoFeedCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final TodoFeedCache todoFeedCache = new TodoFeedCache(objectMapper, new SimpleMeterRegistry(), 2, 50, Duration.ofMinutes(1));
+
+    @Test
+    void 같은_페이지는_다시_조회하지_않고_저장된_JSON을_반환한다() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<TodoResponse>> loader = countingLoader(loads);
+
+        // when
+        TodoFeedCache.FeedPage first = todoFeedCache.getOrLoad(1, 10, loader);
+        TodoFeedCache.FeedPage second = todoFeedCache.getOrLoad(1, 10, loader);
+
+        // then
+        assertEquals(1, loads.get());
+        assertArrayEquals(first.json(), second.json());
+        assertEquals(first.etag(), second.etag());
+        JsonNode json = objectMapper.readTree(second.json());
+        assertEquals(1, json.get("content").size());
+        assertEquals(1, json.get("page").get("totalElements").asLong());
+    }
+
+    @Test
+    void 무효화되면_다시_조회한다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<TodoResponse>> loader = countingLoader(loads);
+        todoFeedCache.getOrLoad(1, 10, loader);
+
+        // when
+        todoFeedCache.invalidate();
+        todoFeedCache.getOrLoad(1, 10, loader);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 조회_중에_변경이_커밋되면_저장한_페이지를_사용하지_않는다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<TodoResponse>> loader = countingLoader(loads);
+        todoFeedCache.getOrLoad(1, 10, () -> {
+            todoFeedCache.invalidate();
+            return loader.get();
+        });
+
+        // when
+        todoFeedCache.getOrLoad(1, 10, loader);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 캐시_대상이_아닌_페이지는_매번_조회한다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<TodoResponse>> loader = countingLoader(loads);
+
+        // when
+        todoFeedCache.getOrLoad(3, 10, loader);
+        todoFeedCache.getOrLoad(3, 10, loader);
+        todoFeedCache.getOrLoad(1, 100, loader);
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void ttl이_지나면_무효화되지_않았어도_다시_조회한다() {
+        // given
+        // 다른 인스턴스나 DB 직접 수정으로 생긴 변경은 버전을 올리지 않습니다.
+        TodoFeedCache expiringCache = new TodoFeedCache(objectMapper, new SimpleMeterRegistry(), 2, 50, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Page<TodoResponse>> loader = countingLoader(loads);
+        expiringCache.getOrLoad(1, 10, loader);
+
+        // when
+        expiringCache.getOrLoad(1, 10, loader);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void ETag는_본문이_같으면_같고_다르면_다르다() {
+        // given
+        TodoFeedCache otherInstance = new TodoFeedCache(objectMapper, new SimpleMeterRegistry(), 2, 50, Duration.ofMinutes(1));
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0));
+        TodoResponse updated = new TodoResponse(1L, "updated", "contents", "Sunny", 1L, "a@a.com",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0));
+
+        // when
+        String etag = todoFeedCache.getOrLoad(1, 10, () -> pageOf(todo)).etag();
+        String sameContentEtag = otherInstance.getOrLoad(1, 10, () -> pageOf(todo)).etag();
+        todoFeedCache.invalidate();
+        String changedEtag = todoFeedCache.getOrLoad(1, 10, () -> pageOf(updated)).etag();
+
+        // then
+        assertEquals(etag, sameContentEtag);
+        assertNotEquals(etag, changedEtag);
+    }
+
+    private Page<TodoResponse> pageOf(TodoResponse todo) {
+        return new PageImpl<>(List.of(todo), PageRequest.of(0, 10), 1);
+    }
+
+    private Supplier<Page<TodoResponse>> countingLoader(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", 1L, "a@a.com",
+                    LocalDateTime.now(), LocalDateTime.now());
+            return new PageImpl<>(List.of(todo), PageRequest.of(0, 10), 1);
+        };
+    }
+}
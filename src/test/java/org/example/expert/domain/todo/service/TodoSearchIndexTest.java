@@ -0,0 +1,132 @@
+package org.example.expert.domain.todo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TodoSearchIndexTest {
+
+    @Test
+    void 검색어의_모든_토큰을_포함하는_일정만_찾는다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex();
+        index.add(new TodoSearchDocument(1L, "주간 회의", "회의록 작성"));
+        index.add(new TodoSearchDocument(2L, "회의실 예약", "오후 세시"));
+        index.add(new TodoSearchDocument(3L, "장보기", "우유, 계란"));
+
+        // when
+        List<TodoSearchCursor> hits = index.search(TodoTokenizer.tokenize("회의록"), null, 10);
+
+        // then
+        assertEquals(List.of(1L), hits.stream().map(TodoSearchCursor::id).toList());
+    }
+
+    @Test
+    void 제목에_있거나_더_자주_나온_일정이_먼저_나온다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex();
+        index.add(new TodoSearchDocument(1L, "장보기", "내일 회의 전에 장보기"));
+        index.add(new TodoSearchDocument(2L, "회의 준비", "회의 자료 출력"));
+        index.add(new TodoSearchDocument(3L, "운동", "헬스장"));
+
+        // when
+        List<TodoSearchCursor> hits = index.search(TodoTokenizer.tokenize("회의"), null, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), hits.stream().map(TodoSearchCursor::id).toList());
+    }
+
+    @Test
+    void 커서_이후의_결과를_중복_없이_이어서_조회한다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.add(new TodoSearchDocument(id, "report", "weekly"));
+        }
+
+        // when
+        List<TodoSearchCursor> firstPage = index.search(List.of("report"), null, 2);
+        List<TodoSearchCursor> secondPage = index.search(List.of("report"), firstPage.get(1), 2);
+        List<TodoSearchCursor> lastPage = index.search(List.of("report"), secondPage.get(1), 2);
+
+        // then
+        assertEquals(List.of(5L, 4L), firstPage.stream().map(TodoSearchCursor::id).toList());
+        assertEquals(List.of(3L, 2L), secondPage.stream().map(TodoSearchCursor::id).toList());
+        assertEquals(List.of(1L), lastPage.stream().map(TodoSearchCursor::id).toList());
+    }
+
+    @Test
+    void 페이지를_넘기는_사이에_일정이_색인되어도_중복되거나_빠지지_않는다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex();
+        Set<Long> initialIds = new HashSet<>();
+        for (long id = 2; id <= 60; id += 2) {
+            index.add(new TodoSearchDocument(id, "report", "weekly ".repeat((int) (id % 7)) + "report ".repeat((int) (id % 3))));
+            initialIds.add(id);
+        }
+
+        // when
+        List<Long> pagedIds = new ArrayList<>();
+        List<TodoSearchCursor> page = index.search(List.of("report"), null, 4);
+        long addedId = 1000;
+        while (!page.isEmpty()) {
+            page.forEach(hit -> pagedIds.add(hit.id()));
+            // 통계(일정 수, 평균 길이, 토큰을 포함한 일정 수)를 바꾸는 일정과, 커밋 순서가 뒤바뀌어 중간에 들어오는 일정을 추가합니다.
+            index.add(new TodoSearchDocument(addedId++, "report report", "report"));
+            index.add(new TodoSearchDocument(addedId++, "monthly", "summary ".repeat(20)));
+            index.add(new TodoSearchDocument(addedId - 1001, "report", ""));
+            page = index.search(List.of("report"), page.get(page.size() - 1), 4);
+        }
+
+        // then
+        assertEquals(pagedIds.size(), new HashSet<>(pagedIds).size());
+        assertTrue(pagedIds.containsAll(initialIds));
+        assertTrue(pagedIds.stream().allMatch(id -> id <= 60));
+    }
+
+    @Test
+    void id_순서가_뒤바뀌어_추가되어도_같은_일정은_한_번만_색인된다() {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex();
+        index.add(new TodoSearchDocument(3L, "report", ""));
+        index.add(new TodoSearchDocument(1L, "report", ""));
+        index.add(new TodoSearchDocument(3L, "report", ""));
+        index.add(new TodoSearchDocument(2L, "report", ""));
+
+        // when
+        List<TodoSearchCursor> hits = index.search(List.of("report"), null, 10);
+
+        // then
+        assertEquals(3, index.documentCount());
+        assertEquals(List.of(3L, 2L, 1L), hits.stream().map(TodoSearchCursor::id).toList());
+    }
+
+    @Test
+    void 스냅샷에서_읽은_색인은_같은_결과를_반환한다() throws Exception {
+        // given
+        TodoSearchIndex index = new TodoSearchIndex();
+        index.add(new TodoSearchDocument(1L, "주간 회의", "회의록 작성"));
+        index.add(new TodoSearchDocument(7L, "회의 준비", "자료 출력"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        // when
+        TodoSearchIndex restored = TodoSearchIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertEquals(7L, restored.maxDocumentId());
+        assertEquals(index.documentCount(), restored.documentCount());
+        assertEquals(index.search(List.of("회의"), null, 10), restored.search(List.of("회의"), null, 10));
+        assertTrue(restored.search(List.of("장보"), null, 10).isEmpty());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TodoTokenizerTest {
+
+    @Test
+    void 한글은_두_글자씩_영문은_소문자_단어로_나눈다() {
+        // when
+        List<String> tokens = TodoTokenizer.tokenize("회의록 정리, Weekly Meeting 3회");
+
+        // then
+        assertEquals(List.of("회의", "의록", "정리", "weekly", "meeting", "3", "회"), tokens);
+    }
+
+    @Test
+    void 조사가_붙어도_같은_토큰이_만들어진다() {
+        // when
+        List<String> tokens = TodoTokenizer.tokenize("회의를");
+
+        // then
+        assertEquals(List.of("회의", "의를"), tokens);
+    }
+}
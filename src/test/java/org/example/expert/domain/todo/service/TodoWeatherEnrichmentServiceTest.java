@@ -0,0 +1,117 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.event.TodoSavedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnrichmentServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherProvider weatherProvider;
+    @Mock
+    private TodoFeedCache todoFeedCache;
+
+    @Test
+    void async_모드에서는_날씨를_조회하지_않고_null을_반환한다() {
+        // given
+        TodoWeatherEnrichmentService service = createService("async");
+
+        // when
+        String weather = service.resolveWeatherForNewTodo();
+
+        // then
+        assertNull(weather);
+        verify(weatherProvider, never()).getTodayWeather();
+    }
+
+    @Test
+    void sync_모드에서_날씨_조회에_실패하면_날씨_없이_저장한다() {
+        // given
+        TodoWeatherEnrichmentService service = createService("sync");
+        given(weatherProvider.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        String weather = service.resolveWeatherForNewTodo();
+
+        // then
+        assertNull(weather);
+    }
+
+    @Test
+    void 대기열의_일정들은_한_번의_UPDATE로_날씨가_채워진다() {
+        // given
+        TodoWeatherEnrichmentService service = createService("async");
+        service.onTodoSaved(new TodoSavedEvent(1L, true));
+        service.onTodoSaved(new TodoSavedEvent(2L, true));
+        service.onTodoSaved(new TodoSavedEvent(3L, false));
+
+        given(weatherProvider.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.fillPendingWeather(anyList(), eq("Sunny"))).willReturn(2);
+
+        // when
+        service.flushPendingWeather();
+
+        // then
+        verify(todoRepository, times(1)).fillPendingWeather(List.of(1L, 2L), "Sunny");
+        verify(todoFeedCache).invalidate();
+    }
+
+    @Test
+    void 날씨_조회에_실패하면_대기열에_남겨_다음_주기에_다시_시도한다() {
+        // given
+        TodoWeatherEnrichmentService service = createService("async");
+        service.onTodoSaved(new TodoSavedEvent(1L, true));
+
+        given(weatherProvider.getTodayWeather())
+                .willThrow(new ServerException("날씨 데이터가 없습니다."))
+                .willReturn("Sunny");
+
+        // when
+        service.flushPendingWeather();
+        service.flushPendingWeather();
+
+        // then
+        verify(todoRepository, times(1)).fillPendingWeather(List.of(1L), "Sunny");
+    }
+
+    @Test
+    void 같은_일정이_여러_번_들어와도_대기열에는_한_번만_들어간다() {
+        // given
+        TodoWeatherEnrichmentService service = createService("async");
+        service.onTodoSaved(new TodoSavedEvent(1L, true));
+        given(todoRepository.findIdsByWeatherIsNull()).willReturn(List.of(1L, 2L));
+        service.recoverPendingTodos();
+        service.recoverPendingTodos();
+
+        given(weatherProvider.getTodayWeather()).willReturn("Sunny");
+
+        // when
+        service.flushPendingWeather();
+
+        // then
+        verify(todoRepository, times(1)).fillPendingWeather(List.of(1L, 2L), "Sunny");
+    }
+
+    private TodoWeatherEnrichmentService createService(String mode) {
+        return new TodoWeatherEnrichmentService(todoRepository, weatherProvider, todoFeedCache, new SimpleMeterRegistry(), mode, 500);
+    }
+}
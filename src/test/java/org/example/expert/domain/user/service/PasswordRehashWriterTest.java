@@ -0,0 +1,100 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehashWriterTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordRehashWriter passwordRehashWriter;
+
+    @BeforeEach
+    void setUp() {
+        passwordRehashWriter = new PasswordRehashWriter(passwordEncoder, jdbcTemplate, meterRegistry, 100, 2);
+    }
+
+    @Test
+    void 재해시를_요청하면_새_해시만_계산하고_저장은_미룬다() {
+        // given
+        given(passwordEncoder.encode("password")).willReturn("newHash");
+
+        // when
+        passwordRehashWriter.rehash(1L, "password", "oldHash");
+
+        // then
+        verify(passwordEncoder, times(1)).encode("password");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void 대기열의_해시를_한_번의_batch로_저장한다() {
+        // given
+        given(passwordEncoder.encode("password1")).willReturn("newHash1");
+        given(passwordEncoder.encode("password2")).willReturn("newHash2");
+        passwordRehashWriter.rehash(1L, "password1", "oldHash1");
+        passwordRehashWriter.rehash(2L, "password2", "oldHash2");
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).willReturn(new int[][]{{1, 1}});
+
+        // when
+        passwordRehashWriter.flush();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat(batch -> batch.size() == 2), eq(2), any());
+        assertEquals(2, meterRegistry.counter("password.rehash", "result", "updated").count());
+    }
+
+    @Test
+    void 해시_풀이_포화되면_건너뛴다() {
+        // given
+        given(passwordEncoder.encode(anyString())).willThrow(new ServiceUnavailableException("busy", 1));
+        passwordRehashWriter.rehash(1L, "password1", "oldHash1");
+
+        // when
+        passwordRehashWriter.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+        assertEquals(1, meterRegistry.counter("password.rehash", "result", "skipped").count());
+    }
+
+    @Test
+    void 대기열이_가득_차면_해시를_계산하지_않고_건너뛴다() {
+        // given
+        given(passwordEncoder.encode(anyString())).willReturn("newHash");
+        passwordRehashWriter.rehash(1L, "password1", "oldHash1");
+        passwordRehashWriter.rehash(2L, "password2", "oldHash2");
+
+        // when
+        passwordRehashWriter.rehash(3L, "password3", "oldHash3");
+
+        // then
+        verify(passwordEncoder, times(2)).encode(anyString());
+        assertEquals(1, meterRegistry.counter("password.rehash", "result", "skipped").count());
+    }
+}
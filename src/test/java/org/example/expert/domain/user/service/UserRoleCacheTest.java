@@ -0,0 +1,96 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.event.UserRoleChangedEvent;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserRoleCache userRoleCache;
+
+    @BeforeEach
+    void setUp() {
+        userRoleCache = new UserRoleCache(userRepository, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void 캐시된_권한은_DB를_다시_조회하지_않는다() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(new User("a@a.com", "password", UserRole.ADMIN)));
+
+        // when
+        userRoleCache.getUserRole(1L);
+        UserRole userRole = userRoleCache.getUserRole(1L);
+
+        // then
+        assertEquals(UserRole.ADMIN, userRole);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void 권한_변경_이벤트를_받으면_변경된_권한을_다시_조회한다() {
+        // given
+        given(userRepository.findById(1L))
+                .willReturn(Optional.of(new User("a@a.com", "password", UserRole.ADMIN)))
+                .willReturn(Optional.of(new User("a@a.com", "password", UserRole.USER)));
+        userRoleCache.getUserRole(1L);
+
+        // when
+        userRoleCache.onUserRoleChanged(new UserRoleChangedEvent(1L));
+        UserRole userRole = userRoleCache.getUserRole(1L);
+
+        // then
+        assertEquals(UserRole.USER, userRole);
+    }
+
+    @Test
+    void 조회하는_동안_권한이_변경되면_읽은_권한을_캐시에_저장하지_않는다() {
+        // given
+        given(userRepository.findById(1L))
+                .willAnswer(invocation -> {
+                    userRoleCache.onUserRoleChanged(new UserRoleChangedEvent(1L));
+                    return Optional.of(new User("a@a.com", "password", UserRole.ADMIN));
+                })
+                .willReturn(Optional.of(new User("a@a.com", "password", UserRole.USER)));
+
+        // when
+        UserRole staleRole = userRoleCache.getUserRole(1L);
+        UserRole userRole = userRoleCache.getUserRole(1L);
+
+        // then
+        assertEquals(UserRole.ADMIN, staleRole);
+        assertEquals(UserRole.USER, userRole);
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 유저가_없으면_예외가_발생하고_캐시에_저장하지_않는다() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> userRoleCache.getUserRole(1L));
+        assertThrows(InvalidRequestException.class, () -> userRoleCache.getUserRole(1L));
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
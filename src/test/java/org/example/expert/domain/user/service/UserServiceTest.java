@@ -18,7 +18,11 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -124,12 +128,38 @@ public class UserServiceTest {
         given(passwordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
         given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
         given(passwordEncoder.encode(request.getNewPassword())).willReturn("encodedPassword");
+        given(userRepository.changePassword(eq(userId), eq(password), eq("encodedPassword"), any())).willReturn(1);
 
         // 2. when
         userService.changePassword(userId, request);
 
         // 3. then
-        assertEquals("encodedPassword", user.getPassword());
+        verify(userRepository, times(1)).changePassword(eq(userId), eq(password), eq("encodedPassword"), any());
+    }
+
+    @Test
+    void 검증하는_동안_비밀번호가_바뀌었다면_덮어쓰지_않고_예외가_발생한다() {
+        // 1. given
+        long userId = 1L;
+        String password = "password123!";
+        UserChangePasswordRequest request = new UserChangePasswordRequest(password, "newPassword123!");
+
+        User user = new User("user1@example.com", password, UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", userId);
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
+        given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
+        given(passwordEncoder.encode(request.getNewPassword())).willReturn("encodedPassword");
+        given(userRepository.changePassword(eq(userId), eq(password), eq("encodedPassword"), any())).willReturn(0);
+
+        // 2. when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.changePassword(userId, request)
+        );
+
+        // 3. then
+        assertEquals("비밀번호가 변경되었습니다. 다시 시도해주세요.", exception.getMessage());
     }
 
 }
\ No newline at end of file